@@ -131,9 +131,10 @@ public class AuthenticationController {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
                 }
 
-                User user = cud.getUser();
-
-                return ResponseEntity.ok(userMapper.toDto(user));
+                // The principal is built from token claims; read the full profile.
+                return userRepository.findById(cud.getId())
+                                .map(user -> ResponseEntity.ok(userMapper.toDto(user)))
+                                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         private ResponseCookie buildCookie(
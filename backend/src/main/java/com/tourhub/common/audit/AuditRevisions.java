@@ -0,0 +1,37 @@
+package com.tourhub.common.audit;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Envers revisions for bulk UPDATEs, which Envers itself never sees. A
+ * caller takes the revision of its transaction and copies the rows it
+ * changed into the _aud tables under it (revtype 1, modification), so status
+ * changes made by the expiry jobs stay in the audit trail next to the entity
+ * updates.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditRevisions {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Returns the revision of the current transaction, creating it if no
+     * audited entity has been written yet. It is flushed, so the audit rows
+     * can reference it straight away.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int current() {
+        DefaultRevisionEntity revision = AuditReaderFactory.get(entityManager)
+                .getCurrentRevision(DefaultRevisionEntity.class, true);
+        entityManager.flush();
+        return revision.getId();
+    }
+}
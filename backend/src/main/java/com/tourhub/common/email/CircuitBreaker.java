@@ -0,0 +1,61 @@
+package com.tourhub.common.email;
+
+import java.time.Duration;
+
+/*
+ * Minimal consecutive-failure breaker. After failure-threshold failures in a
+ * row it rejects calls for open-duration, then lets a single trial call
+ * through; its outcome closes the circuit or opens it again.
+ */
+final class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean open;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    synchronized boolean tryAcquire() {
+        if (!open) {
+            return true;
+        }
+
+        if (System.nanoTime() - openUntil < 0 || trialInFlight) {
+            return false;
+        }
+
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        open = false;
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        trialInFlight = false;
+
+        if (++consecutiveFailures >= failureThreshold) {
+            open = true;
+            openUntil = System.nanoTime() + openNanos;
+        }
+    }
+
+    // The call ended without telling us anything about the provider.
+    synchronized void release() {
+        trialInFlight = false;
+    }
+
+    synchronized boolean isOpen() {
+        return open;
+    }
+}
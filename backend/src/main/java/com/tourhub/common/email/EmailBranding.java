@@ -0,0 +1,12 @@
+package com.tourhub.common.email;
+
+// Storefront settings as used by outgoing email; also the key under which
+// EmailService keeps its compiled layout.
+record EmailBranding(
+        String siteName,
+        String primaryColor,
+        String accentColor,
+        String logoUrl,
+        String contactEmail,
+        String contactReceiverEmail) {
+}
@@ -0,0 +1,65 @@
+package com.tourhub.common.email;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import com.tourhub.config.CacheConfig;
+import com.tourhub.storefront.model.StorefrontSettings;
+import com.tourhub.storefront.repository.StorefrontSettingsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Cached storefront branding for outgoing email. StorefrontSettingsService
+ * evicts it when the settings change; the TTL covers other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailBrandingProvider {
+
+    static final String DEFAULT_SITE_NAME = "TourHub";
+    static final String DEFAULT_PRIMARY_COLOR = "#15803d";
+    static final String DEFAULT_ACCENT_COLOR = "#0f172a";
+
+    private final StorefrontSettingsRepository storefrontSettingsRepository;
+
+    @Cacheable(cacheNames = CacheConfig.EMAIL_BRANDING, key = "'current'")
+    public EmailBranding current() {
+        return buildBranding(storefrontSettingsRepository.findTopByOrderByIdAsc().orElse(null));
+    }
+
+    static String sanitizeHexColor(String value, String fallback) {
+        if (hasText(value) && value.trim().matches("^#[0-9a-fA-F]{6}$")) {
+            return value.trim();
+        }
+        return fallback;
+    }
+
+    private EmailBranding buildBranding(StorefrontSettings settings) {
+        if (settings == null) {
+            return new EmailBranding(
+                    DEFAULT_SITE_NAME,
+                    DEFAULT_PRIMARY_COLOR,
+                    DEFAULT_ACCENT_COLOR,
+                    null,
+                    null,
+                    null);
+        }
+
+        return new EmailBranding(
+                hasText(settings.getSiteName()) ? settings.getSiteName().trim() : DEFAULT_SITE_NAME,
+                sanitizeHexColor(settings.getPrimaryColor(), DEFAULT_PRIMARY_COLOR),
+                sanitizeHexColor(settings.getAccentColor(), DEFAULT_ACCENT_COLOR),
+                trimToNull(settings.getLogoUrl()),
+                trimToNull(settings.getContactEmail()),
+                trimToNull(settings.getContactReceiverEmail()));
+    }
+
+    private static String trimToNull(String value) {
+        return hasText(value) ? value.trim() : null;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package com.tourhub.common.email;
+
+// The branded parts of every email, compiled once per EmailBranding. Admin
+// branding values are kept out of the template sources and filled in as slot
+// values, so braces in them cannot open a slot.
+record EmailLayout(
+        EmailBranding branding,
+        EmailTemplate document,
+        EmailTemplate button,
+        EmailTemplate linkCard,
+        String brandHeader,
+        String sentBy,
+        String supportLine) {
+}
@@ -0,0 +1,4 @@
+package com.tourhub.common.email;
+
+public record EmailMessage(String to, String subject, String html, String replyTo) {
+}
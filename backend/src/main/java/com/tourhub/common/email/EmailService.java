@@ -4,15 +4,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.HtmlUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tourhub.common.email.outbox.EmailOutbox;
 import com.tourhub.order.model.Order;
 import com.tourhub.order.model.OrderItem;
-import com.tourhub.storefront.model.StorefrontSettings;
-import com.tourhub.storefront.repository.StorefrontSettingsRepository;
 import com.tourhub.user.model.User;
 
 import lombok.RequiredArgsConstructor;
@@ -27,9 +29,6 @@ public class EmailService {
             "EEEE, dd MMM yyyy 'at' HH:mm",
             Locale.ENGLISH);
 
-    private static final String DEFAULT_SITE_NAME = "TourHub";
-    private static final String DEFAULT_PRIMARY_COLOR = "#15803d";
-    private static final String DEFAULT_ACCENT_COLOR = "#0f172a";
     private static final String DEFAULT_BACKGROUND_COLOR = "#eef2f7";
     private static final String DEFAULT_SURFACE_COLOR = "#ffffff";
     private static final String DEFAULT_MUTED_SURFACE_COLOR = "#f8fafc";
@@ -38,8 +37,61 @@ public class EmailService {
     private static final String DEFAULT_MUTED_TEXT_COLOR = "#475569";
     private static final String DEFAULT_SOFT_TEXT_COLOR = "#64748b";
 
-    private final ResendClient resendClient;
-    private final StorefrontSettingsRepository storefrontSettingsRepository;
+    // Fragments without branding, compiled once; the branded ones live in
+    // EmailLayout and are compiled once per branding.
+    private static final EmailTemplate STATUS_BADGE = EmailTemplate.compile(
+            "<div style=\"display:inline-block;margin-top:20px;padding:8px 14px;border-radius:999px;"
+                    + "font-size:12px;font-weight:700;letter-spacing:0.08em;text-transform:uppercase;"
+                    + "color:{{textColor}};background-color:{{backgroundColor}};border:1px solid {{borderColor}};\">"
+                    + "{{text}}"
+                    + "</div>");
+
+    private static final EmailTemplate CARD = EmailTemplate.compile(
+            "<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"margin-top:16px;"
+                    + "background-color:" + DEFAULT_MUTED_SURFACE_COLOR
+                    + ";border:1px solid " + DEFAULT_BORDER_COLOR
+                    + ";border-radius:18px;\">"
+                    + "<tr><td style=\"padding:22px 24px;\">"
+                    + "{{kicker}}{{heading}}{{body}}"
+                    + "</td></tr></table>");
+
+    private static final EmailTemplate CARD_KICKER = EmailTemplate.compile(
+            "<div style=\"font-size:11px;font-weight:700;letter-spacing:0.12em;text-transform:uppercase;color:"
+                    + DEFAULT_SOFT_TEXT_COLOR + ";margin-bottom:10px;\">{{text}}</div>");
+
+    private static final EmailTemplate CARD_HEADING = EmailTemplate.compile(
+            "<h2 style=\"margin:0 0 12px;font-size:20px;line-height:1.3;color:"
+                    + DEFAULT_TEXT_COLOR + ";font-weight:700;\">{{text}}</h2>");
+
+    private static final EmailTemplate DATA_ROW = EmailTemplate.compile(
+            "<tr>"
+                    + "<td style=\"padding:8px 0;font-size:14px;line-height:1.6;color:" + DEFAULT_MUTED_TEXT_COLOR + ";\">"
+                    + "{{label}}"
+                    + "</td>"
+                    + "<td align=\"right\" style=\"padding:8px 0 8px 16px;font-size:14px;line-height:1.6;color:" + DEFAULT_TEXT_COLOR + ";font-weight:600;\">"
+                    + "{{value}}"
+                    + "</td>"
+                    + "</tr>");
+
+    private static final EmailTemplate PARAGRAPH = EmailTemplate.compile(
+            "<p style=\"margin:0 0 12px;font-size:15px;line-height:1.8;color:" + DEFAULT_MUTED_TEXT_COLOR + ";\">"
+                    + "{{copy}}"
+                    + "</p>");
+
+    private final EmailOutbox emailOutbox;
+    private final EmailBrandingProvider brandingProvider;
+
+    // Keyed by the branding itself, so a settings change simply compiles a
+    // new layout and the old one ages out.
+    private final Cache<EmailBranding, EmailLayout> layouts = Caffeine.newBuilder()
+            .maximumSize(4)
+            .build();
+
+    // One entry per accent colour: the fixed status colours plus each
+    // branding's primary colour.
+    private final Cache<String, EmailTemplate> noticeTemplates = Caffeine.newBuilder()
+            .maximumSize(32)
+            .build();
 
     @Value("${app.frontend-base-url:http://localhost:3000}")
     private String frontendBaseUrl;
@@ -58,17 +110,13 @@ public class EmailService {
             return;
         }
 
-        EmailBranding branding = loadBranding();
+        EmailLayout layout = currentLayout();
         String manageUrl = frontendBaseUrl + "/booking/manage?token=" + manageToken;
-        String subject = "Booking confirmed - " + branding.siteName() + " - #" + order.getId();
-        String html = buildOrderConfirmationHtml(order, firstItem, manageUrl, branding);
-
-        try {
-            resendClient.sendEmail(to, subject, html, resolveSupportReplyTo(branding));
-            log.info("Confirmation email sent for order {}", order.getId());
-        } catch (Exception e) {
-            log.error("Failed to send confirmation email for order {}", order.getId(), e);
-        }
+        String subject = "Booking confirmed - " + layout.branding().siteName() + " - #" + order.getId();
+        String html = buildOrderConfirmationHtml(order, firstItem, manageUrl, layout);
+
+        emailOutbox.enqueue(to, subject, html, resolveSupportReplyTo(layout.branding()));
+        log.info("Confirmation email queued for order {}", order.getId());
     }
 
     public void sendCancellationConfirmation(
@@ -81,16 +129,12 @@ public class EmailService {
             return;
         }
 
-        EmailBranding branding = loadBranding();
+        EmailLayout layout = currentLayout();
         String subject = "Booking cancelled - " + safeText(item.getTourTitle(), "Your booking");
-        String html = buildGuestCancellationHtml(item, refundable, refundAmount, branding);
+        String html = buildGuestCancellationHtml(item, refundable, refundAmount, layout);
 
-        try {
-            resendClient.sendEmail(item.getEmail(), subject, html, resolveSupportReplyTo(branding));
-            log.info("Cancellation email sent for orderItem {}", item.getId());
-        } catch (Exception e) {
-            log.error("Failed to send cancellation email for orderItem {}", item.getId(), e);
-        }
+        emailOutbox.enqueue(item.getEmail(), subject, html, resolveSupportReplyTo(layout.branding()));
+        log.info("Cancellation email queued for orderItem {}", item.getId());
     }
 
     public void sendVerificationEmail(User user, String token) {
@@ -99,17 +143,13 @@ public class EmailService {
             return;
         }
 
-        EmailBranding branding = loadBranding();
+        EmailLayout layout = currentLayout();
         String verifyUrl = frontendBaseUrl + "/verify-email?token=" + token;
-        String subject = "Confirm your email - " + branding.siteName();
-        String html = buildVerificationHtml(user, verifyUrl, branding);
-
-        try {
-            resendClient.sendEmail(user.getEmail(), subject, html, resolveSupportReplyTo(branding));
-            log.info("Verification email sent to user {}", user.getEmail());
-        } catch (Exception e) {
-            log.error("Failed to send verification email to {}", user.getEmail(), e);
-        }
+        String subject = "Confirm your email - " + layout.branding().siteName();
+        String html = buildVerificationHtml(user, verifyUrl, layout);
+
+        emailOutbox.enqueue(user.getEmail(), subject, html, resolveSupportReplyTo(layout.branding()));
+        log.info("Verification email queued for user {}", user.getEmail());
     }
 
     public void sendPasswordResetEmail(User user, String token) {
@@ -118,17 +158,13 @@ public class EmailService {
             return;
         }
 
-        EmailBranding branding = loadBranding();
+        EmailLayout layout = currentLayout();
         String resetUrl = frontendBaseUrl + "/reset-password?token=" + token;
-        String subject = "Reset your password - " + branding.siteName();
-        String html = buildPasswordResetHtml(user, resetUrl, branding);
-
-        try {
-            resendClient.sendEmail(user.getEmail(), subject, html, resolveSupportReplyTo(branding));
-            log.info("Password reset email sent to {}", user.getEmail());
-        } catch (Exception e) {
-            log.error("Failed to send password reset email to {}", user.getEmail(), e);
-        }
+        String subject = "Reset your password - " + layout.branding().siteName();
+        String html = buildPasswordResetHtml(user, resetUrl, layout);
+
+        emailOutbox.enqueue(user.getEmail(), subject, html, resolveSupportReplyTo(layout.branding()));
+        log.info("Password reset email queued for {}", user.getEmail());
     }
 
     public void sendProviderCancellationNotice(
@@ -140,23 +176,18 @@ public class EmailService {
             return;
         }
 
-        EmailBranding branding = loadBranding();
+        EmailLayout layout = currentLayout();
         String subject = "Tour cancelled - refund initiated - " + safeText(item.getTourTitle(), "Your booking");
-        String html = buildProviderCancellationHtml(item, refundAmount, branding);
+        String html = buildProviderCancellationHtml(item, refundAmount, layout);
 
-        try {
-            resendClient.sendEmail(item.getEmail(), subject, html, resolveSupportReplyTo(branding));
-            log.info("Provider cancellation email sent for orderItem {}", item.getId());
-        } catch (Exception e) {
-            log.error("Failed to send provider cancellation email for orderItem {}", item.getId(), e);
-        }
+        emailOutbox.enqueue(item.getEmail(), subject, html, resolveSupportReplyTo(layout.branding()));
+        log.info("Provider cancellation email queued for orderItem {}", item.getId());
     }
 
     public void sendContactMessage(String name, String email, String subject, String message) {
-        StorefrontSettings settings = storefrontSettingsRepository.findTopByOrderByIdAsc().orElse(null);
-        EmailBranding branding = buildBranding(settings);
+        EmailLayout layout = currentLayout();
 
-        String resolvedReceiver = resolveContactReceiver(settings);
+        String resolvedReceiver = resolveContactReceiver(layout.branding());
         if (!hasText(resolvedReceiver)) {
             throw new IllegalStateException("Contact receiver email is not configured.");
         }
@@ -171,22 +202,22 @@ public class EmailService {
                 normalizedEmail,
                 normalizedSubject,
                 normalizedMessage,
-                branding);
+                layout);
 
-        resendClient.sendEmail(
+        emailOutbox.enqueue(
                 resolvedReceiver.trim(),
                 "Contact form - " + normalizedSubject,
                 html,
                 normalizedEmail);
 
-        log.info("Contact form email forwarded from {}", normalizedEmail);
+        log.info("Contact form email queued from {}", normalizedEmail);
     }
 
     private String buildOrderConfirmationHtml(
             Order order,
             OrderItem firstItem,
             String manageUrl,
-            EmailBranding branding) {
+            EmailLayout layout) {
 
         StringBuilder itemsHtml = new StringBuilder();
         int itemIndex = 1;
@@ -209,16 +240,16 @@ public class EmailService {
         String helpfulNote = buildNoticeCard(
                 "Manage with confidence",
                 "Use the secure booking link below to review your reservation, confirm the meeting details, and handle eligible cancellations.",
-                branding.primaryColor());
+                layout.branding().primaryColor());
 
-        String directLink = buildLinkCard("Manage booking link", manageUrl, branding.primaryColor());
+        String directLink = buildLinkCard(layout, "Manage booking link", manageUrl);
 
         String intro = wrapParagraph(
-                "Thanks for booking with " + escape(branding.siteName())
+                "Thanks for booking with " + escape(layout.branding().siteName())
                         + ". Your reservation is confirmed and the details below are ready to share with your guests.");
 
         return buildEmailDocument(
-                branding,
+                layout,
                 "Your booking is confirmed. Review your itinerary and keep your secure manage link handy.",
                 "Booking confirmed",
                 "#166534",
@@ -226,17 +257,17 @@ public class EmailService {
                 "#bbf7d0",
                 "Your booking is confirmed",
                 personalGreeting(firstItem.getName()) + intro,
-                buildPrimaryButton(manageUrl, "Manage booking", branding.primaryColor()),
+                buildPrimaryButton(layout, manageUrl, "Manage booking"),
                 summaryHtml + itemsHtml + directLink + helpfulNote,
                 "Questions about timing, meeting points, or changes? "
-                        + buildSupportLine(branding, true));
+                        + layout.supportLine());
     }
 
     private String buildGuestCancellationHtml(
             OrderItem item,
             boolean refundable,
             BigDecimal refundAmount,
-            EmailBranding branding) {
+            EmailLayout layout) {
 
         String statusCard = refundable
                 ? buildNoticeCard(
@@ -254,7 +285,7 @@ public class EmailService {
                 : "Your reservation has been cancelled successfully. The cancellation window had already closed, so the charge remains final.";
 
         return buildEmailDocument(
-                branding,
+                layout,
                 "Your booking has been cancelled and the latest refund details are included below.",
                 refundable ? "Refund in progress" : "Cancellation complete",
                 refundable ? "#0f766e" : "#b45309",
@@ -262,18 +293,18 @@ public class EmailService {
                 refundable ? "#99f6e4" : "#fed7aa",
                 "Your booking has been cancelled",
                 personalGreeting(item.getName()) + wrapParagraph(policyCopy),
-                buildPrimaryButton(frontendBaseUrl, "Explore more tours", branding.primaryColor()),
+                buildPrimaryButton(layout, frontendBaseUrl, "Explore more tours"),
                 buildBookingStatusCard(item, "Cancelled booking")
                         + statusCard
-                        + buildLinkCard("Need another plan?", frontendBaseUrl, branding.primaryColor()),
+                        + buildLinkCard(layout, "Need another plan?", frontendBaseUrl),
                 "If you need help reviewing refund timing or choosing a replacement experience, "
-                        + buildSupportLine(branding, true));
+                        + layout.supportLine());
     }
 
     private String buildProviderCancellationHtml(
             OrderItem item,
             BigDecimal refundAmount,
-            EmailBranding branding) {
+            EmailLayout layout) {
 
         String refundNote = buildNoticeCard(
                 "Full refund issued",
@@ -282,7 +313,7 @@ public class EmailService {
                 "#b91c1c");
 
         return buildEmailDocument(
-                branding,
+                layout,
                 "The guide cancelled this tour and your refund has already been initiated.",
                 "Operator update",
                 "#b91c1c",
@@ -292,22 +323,22 @@ public class EmailService {
                 personalGreeting(item.getName())
                         + wrapParagraph(
                                 "We are sorry for the disruption. The guide could not run this session, so we have cancelled the booking on your behalf and started the refund automatically."),
-                buildPrimaryButton(frontendBaseUrl, "Find another experience", branding.primaryColor()),
+                buildPrimaryButton(layout, frontendBaseUrl, "Find another experience"),
                 buildBookingStatusCard(item, "Affected booking")
                         + refundNote
-                        + buildLinkCard("Browse current availability", frontendBaseUrl, branding.primaryColor()),
+                        + buildLinkCard(layout, "Browse current availability", frontendBaseUrl),
                 "If you want help finding a similar route or rebooking quickly, "
-                        + buildSupportLine(branding, true));
+                        + layout.supportLine());
     }
 
-    private String buildVerificationHtml(User user, String verifyUrl, EmailBranding branding) {
+    private String buildVerificationHtml(User user, String verifyUrl, EmailLayout layout) {
         String securityCard = buildNoticeCard(
                 "Why this matters",
                 "Confirming your email activates account access, keeps booking updates reliable, and helps protect your profile.",
                 "#1d4ed8");
 
         return buildEmailDocument(
-                branding,
+                layout,
                 "Confirm your email address to activate your account and receive booking updates.",
                 "Action required",
                 "#1d4ed8",
@@ -317,19 +348,19 @@ public class EmailService {
                 personalGreeting(user.getName())
                         + wrapParagraph(
                                 "Finish setting up your account by confirming this email address. Once verified, you can sign in normally and receive important booking updates in the right place."),
-                buildPrimaryButton(verifyUrl, "Verify email", branding.primaryColor()),
-                securityCard + buildLinkCard("Verification link", verifyUrl, branding.primaryColor()),
+                buildPrimaryButton(layout, verifyUrl, "Verify email"),
+                securityCard + buildLinkCard(layout, "Verification link", verifyUrl),
                 "If you did not create this account, you can safely ignore this email.");
     }
 
-    private String buildPasswordResetHtml(User user, String resetUrl, EmailBranding branding) {
+    private String buildPasswordResetHtml(User user, String resetUrl, EmailLayout layout) {
         String securityCard = buildNoticeCard(
                 "Security note",
                 "This reset link expires in 30 minutes. If you did not request a password reset, no action is needed and your password will stay unchanged.",
                 "#4338ca");
 
         return buildEmailDocument(
-                branding,
+                layout,
                 "Use this secure link to reset your password. It expires in 30 minutes.",
                 "Security check",
                 "#4338ca",
@@ -339,8 +370,8 @@ public class EmailService {
                 personalGreeting(user.getName())
                         + wrapParagraph(
                                 "We received a request to reset your password. Use the secure button below to choose a new one and get back into your account."),
-                buildPrimaryButton(resetUrl, "Reset password", branding.primaryColor()),
-                securityCard + buildLinkCard("Reset link", resetUrl, branding.primaryColor()),
+                buildPrimaryButton(layout, resetUrl, "Reset password"),
+                securityCard + buildLinkCard(layout, "Reset link", resetUrl),
                 "If this request was not from you, you can ignore this email and nothing will change.");
     }
 
@@ -349,7 +380,7 @@ public class EmailService {
             String email,
             String subject,
             String message,
-            EmailBranding branding) {
+            EmailLayout layout) {
 
         String messageCard = buildCard(
                 "Message",
@@ -365,17 +396,17 @@ public class EmailService {
                         buildDataRow("Email", email),
                         buildDataRow("Subject", subject)));
 
-        String replyButton = buildPrimaryButton("mailto:" + attributeEscape(email), "Reply to sender", branding.primaryColor());
+        String replyButton = buildPrimaryButton(layout, "mailto:" + attributeEscape(email), "Reply to sender");
 
         return buildEmailDocument(
-                branding,
+                layout,
                 "A new contact form submission has arrived from " + name + ".",
                 "New inquiry",
                 "#1f2937",
                 "#e2e8f0",
                 "#cbd5e1",
                 "New contact form message",
-                wrapParagraph("A new inquiry came in through the public contact form for " + escape(branding.siteName()) + "."),
+                wrapParagraph("A new inquiry came in through the public contact form for " + escape(layout.branding().siteName()) + "."),
                 replyButton,
                 contactDetails + messageCard,
                 "This message was submitted through the website contact form.");
@@ -411,8 +442,61 @@ public class EmailService {
         return buildDataCard(label, buildDataTable(rows));
     }
 
+    private EmailLayout currentLayout() {
+        return layouts.get(brandingProvider.current(), this::compileLayout);
+    }
+
+    private EmailLayout compileLayout(EmailBranding branding) {
+        String document = "<html><body style=\"margin:0;padding:0;background-color:" + DEFAULT_BACKGROUND_COLOR
+                + ";font-family:'Segoe UI',Arial,sans-serif;color:" + DEFAULT_TEXT_COLOR + ";\">"
+                + "<div style=\"display:none;max-height:0;overflow:hidden;opacity:0;color:transparent;\">{{preheader}}</div>"
+                + "<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"background-color:"
+                + DEFAULT_BACKGROUND_COLOR + ";\">"
+                + "<tr><td align=\"center\" style=\"padding:32px 16px;\">"
+                + "<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"max-width:640px;background:"
+                + DEFAULT_SURFACE_COLOR + ";border:1px solid " + DEFAULT_BORDER_COLOR
+                + ";border-radius:24px;overflow:hidden;\">"
+                + "<tr><td style=\"height:8px;background-color:" + branding.primaryColor() + ";\"></td></tr>"
+                + "<tr><td style=\"padding:28px 32px 10px;\">"
+                + "{{brandHeader}}{{badge}}"
+                + "<h1 style=\"margin:18px 0 12px;font-size:30px;line-height:1.2;color:" + branding.accentColor()
+                + ";font-weight:700;\">{{title}}</h1>"
+                + "{{intro}}{{action}}"
+                + "</td></tr>"
+                + "<tr><td style=\"padding:0 32px 8px;\">{{content}}</td></tr>"
+                + "<tr><td style=\"padding:24px 32px 32px;border-top:1px solid " + DEFAULT_BORDER_COLOR + ";\">"
+                + "<p style=\"margin:0;font-size:13px;line-height:1.8;color:" + DEFAULT_SOFT_TEXT_COLOR + ";\">{{footer}}</p>"
+                + "<p style=\"margin:14px 0 0;font-size:12px;line-height:1.8;color:" + DEFAULT_SOFT_TEXT_COLOR
+                + ";\">{{sentBy}}</p>"
+                + "</td></tr></table></td></tr></table></body></html>";
+
+        String button = "<table role=\"presentation\" cellpadding=\"0\" cellspacing=\"0\" style=\"margin-top:8px;\">"
+                + "<tr><td align=\"center\" style=\"border-radius:999px;background-color:" + branding.primaryColor() + ";\">"
+                + "<a href=\"{{url}}\""
+                + " style=\"display:inline-block;padding:14px 24px;border-radius:999px;"
+                + "font-size:14px;font-weight:700;line-height:1;color:#ffffff;text-decoration:none;\">"
+                + "{{label}}"
+                + "</a></td></tr></table>";
+
+        String linkCard = buildCard(
+                "Direct link",
+                "{{label}}",
+                "<div style=\"font-size:13px;line-height:1.8;word-break:break-word;\">"
+                        + "<a href=\"{{url}}\" style=\"color:" + branding.primaryColor()
+                        + ";text-decoration:none;\">{{text}}</a></div>");
+
+        return new EmailLayout(
+                branding,
+                EmailTemplate.compile(document),
+                EmailTemplate.compile(button),
+                EmailTemplate.compile(linkCard),
+                buildBrandHeader(branding),
+                buildSentBy(branding),
+                buildSupportLine(branding, true));
+    }
+
     private String buildEmailDocument(
-            EmailBranding branding,
+            EmailLayout layout,
             String preheader,
             String badgeText,
             String badgeTextColor,
@@ -424,67 +508,16 @@ public class EmailService {
             String contentHtml,
             String footerMessage) {
 
-        StringBuilder html = new StringBuilder();
-        html.append("<html><body style=\"margin:0;padding:0;background-color:")
-                .append(DEFAULT_BACKGROUND_COLOR)
-                .append(";font-family:'Segoe UI',Arial,sans-serif;color:")
-                .append(DEFAULT_TEXT_COLOR)
-                .append(";\">");
-
-        html.append("<div style=\"display:none;max-height:0;overflow:hidden;opacity:0;color:transparent;\">")
-                .append(escape(preheader))
-                .append("</div>");
-
-        html.append("<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"background-color:")
-                .append(DEFAULT_BACKGROUND_COLOR)
-                .append(";\">")
-                .append("<tr><td align=\"center\" style=\"padding:32px 16px;\">")
-                .append("<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"max-width:640px;background:")
-                .append(DEFAULT_SURFACE_COLOR)
-                .append(";border:1px solid ")
-                .append(DEFAULT_BORDER_COLOR)
-                .append(";border-radius:24px;overflow:hidden;\">")
-                .append("<tr><td style=\"height:8px;background-color:")
-                .append(branding.primaryColor())
-                .append(";\"></td></tr>")
-                .append("<tr><td style=\"padding:28px 32px 10px;\">")
-                .append(buildBrandHeader(branding))
-                .append(buildStatusBadge(badgeText, badgeTextColor, badgeBackgroundColor, badgeBorderColor))
-                .append("<h1 style=\"margin:18px 0 12px;font-size:30px;line-height:1.2;color:")
-                .append(branding.accentColor())
-                .append(";font-weight:700;\">")
-                .append(escape(title))
-                .append("</h1>")
-                .append(introHtml);
-
-        if (hasText(actionHtml)) {
-            html.append("<div style=\"padding-top:8px;\">").append(actionHtml).append("</div>");
-        }
-
-        html.append("</td></tr>")
-                .append("<tr><td style=\"padding:0 32px 8px;\">")
-                .append(contentHtml)
-                .append("</td></tr>")
-                .append("<tr><td style=\"padding:24px 32px 32px;border-top:1px solid ")
-                .append(DEFAULT_BORDER_COLOR)
-                .append(";\">")
-                .append("<p style=\"margin:0;font-size:13px;line-height:1.8;color:")
-                .append(DEFAULT_SOFT_TEXT_COLOR)
-                .append(";\">")
-                .append(footerMessage)
-                .append("</p>")
-                .append("<p style=\"margin:14px 0 0;font-size:12px;line-height:1.8;color:")
-                .append(DEFAULT_SOFT_TEXT_COLOR)
-                .append(";\">Sent by ")
-                .append(escape(branding.siteName()))
-                .append(" | <a href=\"")
-                .append(attributeEscape(frontendBaseUrl))
-                .append("\" style=\"color:")
-                .append(branding.primaryColor())
-                .append(";text-decoration:none;\">Visit site</a></p>")
-                .append("</td></tr></table></td></tr></table></body></html>");
-
-        return html.toString();
+        return layout.document().render(Map.of(
+                "preheader", escape(preheader),
+                "badge", buildStatusBadge(badgeText, badgeTextColor, badgeBackgroundColor, badgeBorderColor),
+                "title", escape(title),
+                "intro", introHtml,
+                "action", hasText(actionHtml) ? "<div style=\"padding-top:8px;\">" + actionHtml + "</div>" : "",
+                "content", contentHtml,
+                "footer", footerMessage,
+                "brandHeader", layout.brandHeader(),
+                "sentBy", layout.sentBy()));
     }
 
     private String buildBrandHeader(EmailBranding branding) {
@@ -513,59 +546,36 @@ public class EmailService {
         return html.toString();
     }
 
+    private String buildSentBy(EmailBranding branding) {
+        return "Sent by " + escape(branding.siteName())
+                + " | <a href=\"" + attributeEscape(frontendBaseUrl) + "\" style=\"color:" + branding.primaryColor()
+                + ";text-decoration:none;\">Visit site</a>";
+    }
+
     private String buildStatusBadge(
             String text,
             String textColor,
             String backgroundColor,
             String borderColor) {
 
-        return "<div style=\"display:inline-block;margin-top:20px;padding:8px 14px;border-radius:999px;"
-                + "font-size:12px;font-weight:700;letter-spacing:0.08em;text-transform:uppercase;"
-                + "color:" + textColor + ";background-color:" + backgroundColor + ";border:1px solid " + borderColor + ";\">"
-                + escape(text)
-                + "</div>";
+        return STATUS_BADGE.render(Map.of(
+                "textColor", textColor,
+                "backgroundColor", backgroundColor,
+                "borderColor", borderColor,
+                "text", escape(text)));
     }
 
-    private String buildPrimaryButton(String url, String label, String color) {
-        return "<table role=\"presentation\" cellpadding=\"0\" cellspacing=\"0\" style=\"margin-top:8px;\">"
-                + "<tr><td align=\"center\" style=\"border-radius:999px;background-color:" + color + ";\">"
-                + "<a href=\"" + attributeEscape(url) + "\""
-                + " style=\"display:inline-block;padding:14px 24px;border-radius:999px;"
-                + "font-size:14px;font-weight:700;line-height:1;color:#ffffff;text-decoration:none;\">"
-                + escape(label)
-                + "</a></td></tr></table>";
+    private String buildPrimaryButton(EmailLayout layout, String url, String label) {
+        return layout.button().render(Map.of(
+                "url", attributeEscape(url),
+                "label", escape(label)));
     }
 
     private String buildCard(String kicker, String heading, String bodyHtml) {
-        StringBuilder html = new StringBuilder();
-        html.append("<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"margin-top:16px;")
-                .append("background-color:")
-                .append(DEFAULT_MUTED_SURFACE_COLOR)
-                .append(";border:1px solid ")
-                .append(DEFAULT_BORDER_COLOR)
-                .append(";border-radius:18px;\">")
-                .append("<tr><td style=\"padding:22px 24px;\">");
-
-        if (hasText(kicker)) {
-            html.append("<div style=\"font-size:11px;font-weight:700;letter-spacing:0.12em;text-transform:uppercase;color:")
-                    .append(DEFAULT_SOFT_TEXT_COLOR)
-                    .append(";margin-bottom:10px;\">")
-                    .append(escape(kicker))
-                    .append("</div>");
-        }
-
-        if (hasText(heading)) {
-            html.append("<h2 style=\"margin:0 0 12px;font-size:20px;line-height:1.3;color:")
-                    .append(DEFAULT_TEXT_COLOR)
-                    .append(";font-weight:700;\">")
-                    .append(escape(heading))
-                    .append("</h2>");
-        }
-
-        html.append(bodyHtml)
-                .append("</td></tr></table>");
-
-        return html.toString();
+        return CARD.render(Map.of(
+                "kicker", hasText(kicker) ? CARD_KICKER.render(Map.of("text", escape(kicker))) : "",
+                "heading", hasText(heading) ? CARD_HEADING.render(Map.of("text", escape(heading))) : "",
+                "body", bodyHtml));
     }
 
     private String buildDataCard(String title, String rowsHtml) {
@@ -573,31 +583,35 @@ public class EmailService {
     }
 
     private String buildNoticeCard(String title, String copy, String accentColor) {
+        return noticeTemplates.get(accentColor, this::compileNoticeCard)
+                .render(Map.of(
+                        "title", escape(title),
+                        "copy", escape(copy)));
+    }
+
+    private EmailTemplate compileNoticeCard(String accentColor) {
         String primaryTint = rgba(accentColor, 0.08);
         String primaryBorder = rgba(accentColor, 0.18);
 
-        return "<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"margin-top:16px;"
-                + "background-color:" + primaryTint + ";border:1px solid " + primaryBorder + ";border-radius:18px;\">"
-                + "<tr><td style=\"padding:20px 22px;\">"
-                + "<div style=\"font-size:11px;font-weight:700;letter-spacing:0.12em;text-transform:uppercase;color:" + DEFAULT_SOFT_TEXT_COLOR + ";margin-bottom:10px;\">Next steps</div>"
-                + "<div style=\"font-size:18px;font-weight:700;line-height:1.3;color:" + DEFAULT_TEXT_COLOR + ";margin-bottom:8px;\">"
-                + escape(title)
-                + "</div>"
-                + "<div style=\"font-size:14px;line-height:1.75;color:" + DEFAULT_MUTED_TEXT_COLOR + ";\">"
-                + escape(copy)
-                + "</div>"
-                + "</td></tr></table>";
+        return EmailTemplate.compile(
+                "<table role=\"presentation\" width=\"100%\" cellpadding=\"0\" cellspacing=\"0\" style=\"margin-top:16px;"
+                        + "background-color:" + primaryTint + ";border:1px solid " + primaryBorder + ";border-radius:18px;\">"
+                        + "<tr><td style=\"padding:20px 22px;\">"
+                        + "<div style=\"font-size:11px;font-weight:700;letter-spacing:0.12em;text-transform:uppercase;color:" + DEFAULT_SOFT_TEXT_COLOR + ";margin-bottom:10px;\">Next steps</div>"
+                        + "<div style=\"font-size:18px;font-weight:700;line-height:1.3;color:" + DEFAULT_TEXT_COLOR + ";margin-bottom:8px;\">"
+                        + "{{title}}"
+                        + "</div>"
+                        + "<div style=\"font-size:14px;line-height:1.75;color:" + DEFAULT_MUTED_TEXT_COLOR + ";\">"
+                        + "{{copy}}"
+                        + "</div>"
+                        + "</td></tr></table>");
     }
 
-    private String buildLinkCard(String label, String url, String linkColor) {
-        return buildCard(
-                "Direct link",
-                label,
-                "<div style=\"font-size:13px;line-height:1.8;word-break:break-word;\">"
-                        + "<a href=\"" + attributeEscape(url) + "\" style=\"color:" + linkColor
-                        + ";text-decoration:none;\">"
-                        + escape(url)
-                        + "</a></div>");
+    private String buildLinkCard(EmailLayout layout, String label, String url) {
+        return layout.linkCard().render(Map.of(
+                "label", escape(label),
+                "url", attributeEscape(url),
+                "text", escape(url)));
     }
 
     private String buildDataTable(String... rowsHtml) {
@@ -611,14 +625,9 @@ public class EmailService {
     }
 
     private String buildDataRow(String label, String value) {
-        return "<tr>"
-                + "<td style=\"padding:8px 0;font-size:14px;line-height:1.6;color:" + DEFAULT_MUTED_TEXT_COLOR + ";\">"
-                + escape(label)
-                + "</td>"
-                + "<td align=\"right\" style=\"padding:8px 0 8px 16px;font-size:14px;line-height:1.6;color:" + DEFAULT_TEXT_COLOR + ";font-weight:600;\">"
-                + escape(safeText(value, "Not provided"))
-                + "</td>"
-                + "</tr>";
+        return DATA_ROW.render(Map.of(
+                "label", escape(label),
+                "value", escape(safeText(value, "Not provided"))));
     }
 
     private String buildSupportLine(EmailBranding branding, boolean includeReplyLanguage) {
@@ -639,9 +648,7 @@ public class EmailService {
     }
 
     private String wrapParagraph(String copy) {
-        return "<p style=\"margin:0 0 12px;font-size:15px;line-height:1.8;color:" + DEFAULT_MUTED_TEXT_COLOR + ";\">"
-                + copy
-                + "</p>";
+        return PARAGRAPH.render(Map.of("copy", copy));
     }
 
     private String personalGreeting(String rawName) {
@@ -650,35 +657,13 @@ public class EmailService {
                 + "</strong>,");
     }
 
-    private EmailBranding loadBranding() {
-        return buildBranding(storefrontSettingsRepository.findTopByOrderByIdAsc().orElse(null));
-    }
-
-    private EmailBranding buildBranding(StorefrontSettings settings) {
-        if (settings == null) {
-            return new EmailBranding(
-                    DEFAULT_SITE_NAME,
-                    DEFAULT_PRIMARY_COLOR,
-                    DEFAULT_ACCENT_COLOR,
-                    null,
-                    null);
-        }
-
-        return new EmailBranding(
-                safeText(settings.getSiteName(), DEFAULT_SITE_NAME),
-                sanitizeHexColor(settings.getPrimaryColor(), DEFAULT_PRIMARY_COLOR),
-                sanitizeHexColor(settings.getAccentColor(), DEFAULT_ACCENT_COLOR),
-                hasText(settings.getLogoUrl()) ? settings.getLogoUrl().trim() : null,
-                hasText(settings.getContactEmail()) ? settings.getContactEmail().trim() : null);
-    }
-
     private String resolveSupportReplyTo(EmailBranding branding) {
         return hasText(branding.contactEmail()) ? branding.contactEmail() : null;
     }
 
-    private String resolveContactReceiver(StorefrontSettings settings) {
-        if (settings != null && hasText(settings.getContactReceiverEmail())) {
-            return settings.getContactReceiverEmail().trim();
+    private String resolveContactReceiver(EmailBranding branding) {
+        if (hasText(branding.contactReceiverEmail())) {
+            return branding.contactReceiverEmail();
         }
 
         return hasText(contactReceiver) ? contactReceiver.trim() : null;
@@ -723,15 +708,8 @@ public class EmailService {
         return result.toString();
     }
 
-    private String sanitizeHexColor(String value, String fallback) {
-        if (hasText(value) && value.trim().matches("^#[0-9a-fA-F]{6}$")) {
-            return value.trim();
-        }
-        return fallback;
-    }
-
     private String rgba(String hex, double alpha) {
-        String sanitized = sanitizeHexColor(hex, DEFAULT_PRIMARY_COLOR);
+        String sanitized = EmailBrandingProvider.sanitizeHexColor(hex, EmailBrandingProvider.DEFAULT_PRIMARY_COLOR);
         int red = Integer.parseInt(sanitized.substring(1, 3), 16);
         int green = Integer.parseInt(sanitized.substring(3, 5), 16);
         int blue = Integer.parseInt(sanitized.substring(5, 7), 16);
@@ -761,12 +739,4 @@ public class EmailService {
     private boolean hasText(String value) {
         return value != null && !value.isBlank();
     }
-
-    private record EmailBranding(
-            String siteName,
-            String primaryColor,
-            String accentColor,
-            String logoUrl,
-            String contactEmail) {
-    }
 }
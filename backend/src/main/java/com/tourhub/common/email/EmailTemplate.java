@@ -0,0 +1,67 @@
+package com.tourhub.common.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Markup split once into literal text and {{slot}} names, so rendering is a
+ * single pass of appends into a pre-sized buffer. Slot values are inserted
+ * verbatim; callers escape them.
+ */
+final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed template slot at " + open);
+            }
+
+            literals.add(source.substring(position, open));
+            slots.add(source.substring(open + OPEN.length(), close));
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new EmailTemplate(literals.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    String render(Map<String, String> values) {
+        StringBuilder html = new StringBuilder(literalLength + 128 * slots.length);
+
+        for (int i = 0; i < slots.length; i++) {
+            String value = values.get(slots[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for template slot " + slots[i]);
+            }
+
+            html.append(literals[i]).append(value);
+        }
+
+        return html.append(literals[slots.length]).toString();
+    }
+}
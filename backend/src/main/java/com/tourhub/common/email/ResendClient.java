@@ -1,59 +1,206 @@
 package com.tourhub.common.email;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+/*
+ * Resend API client on a single shared JDK HttpClient, which keeps
+ * connections alive and multiplexes requests over HTTP/2 when the server
+ * negotiates it. Every request has a deadline, and a circuit breaker stops
+ * the outbox senders from queueing behind a provider that keeps failing.
+ */
 @Component
 @RequiredArgsConstructor
 public class ResendClient {
 
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resend.base-url:https://api.resend.com}")
+    private String baseUrl;
+
     @Value("${resend.api-key:dummy-test-key}")
     private String apiKey;
 
     @Value("${resend.from-email:info@tourhub.space}")
     private String fromEmail;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${resend.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${resend.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Value("${resend.http-version:HTTP_2}")
+    private HttpClient.Version httpVersion;
+
+    @Value("${resend.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${resend.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    private HttpClient httpClient;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(connectTimeout)
+                .build();
+
+        circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+
+        Gauge.builder("resend_circuit_open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
+
+    /* ---- Micrometer ---- */
+    private Timer requestTimer(String outcome) {
+        return Timer.builder("resend_request_duration")
+                .tag("application", "store_manager")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     public void sendEmail(String to, String subject, String html) {
         sendEmail(to, subject, html, null);
     }
 
     public void sendEmail(String to, String subject, String html, String replyTo) {
+        sendEmail(new EmailMessage(to, subject, html, replyTo));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    public void sendEmail(EmailMessage message) {
+        post("/emails", toBody(message));
+    }
+
+    /**
+     * Sends up to {@value #MAX_BATCH_SIZE} messages in one request. Resend
+     * accepts or rejects the batch as a whole, so a single bad message fails
+     * all of them with {@link ResendRejectedException}.
+     */
+    public void sendBatch(List<EmailMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (messages.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Resend batches are limited to " + MAX_BATCH_SIZE + " emails");
+        }
 
-        Map<String, Object> body = new HashMap<>();
+        post("/emails/batch", messages.stream().map(this::toBody).toList());
+    }
+
+    private Map<String, Object> toBody(EmailMessage message) {
+        Map<String, Object> body = new LinkedHashMap<>();
         body.put("from", "TourHub <" + fromEmail + ">");
-        body.put("to", new String[] { to });
-        body.put("subject", subject);
-        body.put("html", html);
+        body.put("to", List.of(message.to()));
+        body.put("subject", message.subject());
+        body.put("html", message.html());
+
+        if (message.replyTo() != null && !message.replyTo().isBlank()) {
+            body.put("reply_to", message.replyTo().trim());
+        }
+
+        return body;
+    }
+
+    private void post(String path, Object body) {
+        if (!circuitBreaker.tryAcquire()) {
+            requestTimer("circuit_open").record(Duration.ZERO);
+            throw new ResendUnavailableException("Resend circuit breaker is open");
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(readTimeout)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        HttpResponse<String> response;
 
-        if (replyTo != null && !replyTo.isBlank()) {
-            body.put("reply_to", replyTo.trim());
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (HttpTimeoutException e) {
+            sample.stop(requestTimer("timeout"));
+            circuitBreaker.recordFailure();
+            throw new IllegalStateException("Resend request timed out", e);
+        } catch (IOException e) {
+            sample.stop(requestTimer("io_error"));
+            circuitBreaker.recordFailure();
+            throw new IllegalStateException("Resend request failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.release();
+            throw new IllegalStateException("Interrupted while calling Resend", e);
         }
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+        int status = response.statusCode();
 
-        ResponseEntity<String> response = restTemplate.postForEntity(
-                "https://api.resend.com/emails",
-                request,
-                String.class);
+        if (status == 429) {
+            sample.stop(requestTimer("throttled"));
+            circuitBreaker.recordSuccess();
+            throw new ResendUnavailableException("Resend is throttling requests");
+        }
+
+        // A bad API key fails every message alike; wait for it to be fixed
+        // instead of dead-lettering mail that was fine.
+        if (status == 401 || status == 403) {
+            sample.stop(requestTimer("unauthorized"));
+            circuitBreaker.recordSuccess();
+            throw new ResendUnavailableException("Resend refused our credentials with status " + status);
+        }
+
+        if (status >= 500) {
+            sample.stop(requestTimer("server_error"));
+            circuitBreaker.recordFailure();
+            throw new IllegalStateException("Resend failed with status " + status);
+        }
+
+        // A 4xx is our request's fault; the provider itself is healthy.
+        circuitBreaker.recordSuccess();
+
+        if (status >= 400) {
+            sample.stop(requestTimer("client_error"));
+            throw new ResendRejectedException(status);
+        }
+
+        sample.stop(requestTimer("success"));
+    }
 
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new IllegalStateException("Resend rejected the email request");
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize email request", e);
         }
     }
 }
@@ -0,0 +1,19 @@
+package com.tourhub.common.email;
+
+/**
+ * Resend refused the request itself (a 4xx other than 429), for example an
+ * invalid recipient. Sending the same request again cannot succeed.
+ */
+public class ResendRejectedException extends RuntimeException {
+
+    private final int status;
+
+    public ResendRejectedException(int status) {
+        super("Resend rejected the email request with status " + status);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
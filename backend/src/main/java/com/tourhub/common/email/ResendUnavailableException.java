@@ -0,0 +1,12 @@
+package com.tourhub.common.email;
+
+/**
+ * Resend is throttling us or the circuit breaker is open. The message itself
+ * is fine and should be retried later without counting an attempt.
+ */
+public class ResendUnavailableException extends RuntimeException {
+
+    public ResendUnavailableException(String message) {
+        super(message);
+    }
+}
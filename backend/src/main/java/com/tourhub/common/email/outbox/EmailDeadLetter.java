@@ -0,0 +1,46 @@
+package com.tourhub.common.email.outbox;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "email_dead_letters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String html;
+
+    @Column(name = "reply_to", length = 320)
+    private String replyTo;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @CreationTimestamp
+    @Column(name = "failed_at", updatable = false)
+    private Instant failedAt;
+}
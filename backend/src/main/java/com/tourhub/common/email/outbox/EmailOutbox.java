@@ -0,0 +1,140 @@
+package com.tourhub.common.email.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Transactional outbox for outgoing email. enqueue joins the caller's
+ * transaction, so a message exists exactly when the change it announces was
+ * committed, and the request only pays for an insert. EmailOutboxWorker
+ * delivers the rows afterwards.
+ *
+ * Claimed rows are leased by moving next_attempt_at forward, so the HTTP call
+ * happens outside any transaction and a crashed worker's rows become due
+ * again once the lease runs out.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailDeadLetterRepository deadLetterRepository;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${app.email.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${app.email.outbox.lease:5m}")
+    private Duration lease;
+
+    @Transactional
+    public void enqueue(String to, String subject, String html, String replyTo) {
+        outboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .html(html)
+                .replyTo(replyTo)
+                .nextAttemptAt(Instant.now())
+                .build());
+    }
+
+    @Transactional
+    public List<EmailOutboxMessage> claimDue(Instant now, int limit) {
+        List<EmailOutboxMessage> due = outboxRepository.lockDue(now, limit);
+
+        if (!due.isEmpty()) {
+            outboxRepository.leaseUntil(
+                    due.stream().map(EmailOutboxMessage::getId).toList(),
+                    now.plus(lease));
+        }
+
+        return due;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        outboxRepository.deleteAllByIdInBatch(ids);
+    }
+
+    // Provider throttling is not the message's fault, so the attempt is not
+    // counted; the rows simply become due again later.
+    @Transactional
+    public void postpone(Collection<Long> ids, Instant until) {
+        outboxRepository.leaseUntil(ids, until);
+    }
+
+    /**
+     * Schedules the next attempt with exponential backoff, or moves the
+     * message to the dead-letter table once it has used up its attempts.
+     *
+     * @return true when the message was dead-lettered
+     */
+    @Transactional
+    public boolean markFailed(Long id, String error, Instant now) {
+        EmailOutboxMessage message = outboxRepository.findById(id).orElse(null);
+        if (message == null) {
+            return false;
+        }
+
+        int attempts = message.getAttempts() + 1;
+        String lastError = truncate(error);
+
+        if (attempts >= maxAttempts) {
+            moveToDeadLetters(message, attempts, lastError);
+            return true;
+        }
+
+        message.setAttempts(attempts);
+        message.setLastError(lastError);
+        message.setNextAttemptAt(now.plus(backoff(attempts)));
+        return false;
+    }
+
+    // The provider refused this message outright; retrying cannot help.
+    @Transactional
+    public void deadLetter(Long id, String error) {
+        outboxRepository.findById(id).ifPresent(message ->
+                moveToDeadLetters(message, message.getAttempts() + 1, truncate(error)));
+    }
+
+    private void moveToDeadLetters(EmailOutboxMessage message, int attempts, String lastError) {
+        deadLetterRepository.save(EmailDeadLetter.builder()
+                .recipient(message.getRecipient())
+                .subject(message.getSubject())
+                .html(message.getHtml())
+                .replyTo(message.getReplyTo())
+                .attempts(attempts)
+                .lastError(lastError)
+                .createdAt(message.getCreatedAt())
+                .build());
+        outboxRepository.delete(message);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
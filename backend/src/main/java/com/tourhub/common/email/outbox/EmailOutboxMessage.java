@@ -0,0 +1,47 @@
+package com.tourhub.common.email.outbox;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "email_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String html;
+
+    @Column(name = "reply_to", length = 320)
+    private String replyTo;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // Also used as a lease: claimed rows are pushed forward while in flight.
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+}
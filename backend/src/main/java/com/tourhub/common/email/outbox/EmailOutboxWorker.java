@@ -0,0 +1,247 @@
+package com.tourhub.common.email.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.tourhub.common.email.EmailMessage;
+import com.tourhub.common.email.ResendClient;
+import com.tourhub.common.email.ResendRejectedException;
+import com.tourhub.common.email.ResendUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Drains the email outbox. Everything that became due since the last poll is
+ * grouped into Resend batch requests of up to batch-size messages, so a mass
+ * notification such as a cancelled session costs a handful of calls rather
+ * than one per guest.
+ *
+ * Resend rejects a batch as a whole when one message in it is bad. A batch
+ * refused with a 4xx is therefore resent one message at a time, and only the
+ * messages refused on their own are dead-lettered, without further attempts.
+ * Timeouts and 5xx responses are retried with backoff; 429 pauses delivery.
+ *
+ * Backpressure: a poll claims no more than one batch per sender thread and
+ * waits for them before claiming again. When Resend throttles us or its
+ * circuit breaker is open, polling pauses and the batch goes back to the
+ * outbox without spending an attempt.
+ *
+ * Polling runs on its own thread rather than through @Scheduled: a poll
+ * blocks until Resend answers, and Spring's shared scheduler has a single
+ * thread, so every other job would wait behind it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxWorker {
+
+    private final EmailOutbox outbox;
+    private final ResendClient resendClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.email.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.email.outbox.throttle-pause:30s}")
+    private Duration throttlePause;
+
+    @Value("${app.email.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    private ExecutorService senders;
+    private ScheduledExecutorService poller;
+
+    private volatile Instant pausedUntil = Instant.MIN;
+
+    /* ---- Micrometer ---- */
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter deadLetteredCounter;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void init() {
+        batchSize = Math.min(batchSize, ResendClient.MAX_BATCH_SIZE);
+        senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("email-outbox-"));
+        poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("email-outbox-poller-"));
+
+        sentCounter = Counter.builder("email_outbox_sent_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+
+        retriedCounter = Counter.builder("email_outbox_retried_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+
+        deadLetteredCounter = Counter.builder("email_outbox_dead_lettered_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+
+        batchSizeSummary = DistributionSummary.builder("email_outbox_batch_size")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (enabled) {
+            poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private Timer batchTimer(String outcome) {
+        return Timer.builder("email_outbox_batch_duration")
+                .tag("application", "store_manager")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // An exception escaping a fixed-delay task would cancel all later polls.
+    private void poll() {
+        try {
+            deliverDue();
+        } catch (RuntimeException e) {
+            log.error("Email outbox poll failed", e);
+        }
+    }
+
+    public void deliverDue() {
+        Instant now = Instant.now();
+
+        if (!enabled || now.isBefore(pausedUntil)) {
+            return;
+        }
+
+        List<EmailOutboxMessage> due = outbox.claimDue(now, batchSize * senderThreads);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<Future<?>> inFlight = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<EmailOutboxMessage> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            inFlight.add(senders.submit(() -> deliver(batch)));
+        }
+
+        for (Future<?> future : inFlight) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Email outbox delivery task failed", e.getCause());
+            }
+        }
+    }
+
+    private void deliver(List<EmailOutboxMessage> batch) {
+        List<Long> ids = batch.stream().map(EmailOutboxMessage::getId).toList();
+        batchSizeSummary.record(batch.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            resendClient.sendBatch(batch.stream().map(EmailOutboxWorker::toEmail).toList());
+        } catch (ResendUnavailableException e) {
+            sample.stop(batchTimer("deferred"));
+            pause(ids, e);
+            return;
+        } catch (ResendRejectedException e) {
+            sample.stop(batchTimer("rejected"));
+            log.warn("Batch of {} emails rejected ({}); sending individually", batch.size(), e.getMessage());
+            deliverIndividually(batch);
+            return;
+        } catch (Exception e) {
+            sample.stop(batchTimer("failure"));
+            markFailed(batch, e);
+            return;
+        }
+
+        sample.stop(batchTimer("success"));
+        outbox.markSent(ids);
+        sentCounter.increment(batch.size());
+    }
+
+    private void deliverIndividually(List<EmailOutboxMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutboxMessage message = batch.get(i);
+
+            try {
+                resendClient.sendEmail(toEmail(message));
+            } catch (ResendUnavailableException e) {
+                pause(batch.subList(i, batch.size()).stream().map(EmailOutboxMessage::getId).toList(), e);
+                return;
+            } catch (ResendRejectedException e) {
+                outbox.deadLetter(message.getId(), e.getMessage());
+                deadLetteredCounter.increment();
+                log.error("Email {} to {} rejected by Resend; moved to dead letters",
+                        message.getId(), message.getRecipient());
+                continue;
+            } catch (Exception e) {
+                markFailed(List.of(message), e);
+                continue;
+            }
+
+            outbox.markSent(List.of(message.getId()));
+            sentCounter.increment();
+        }
+    }
+
+    private void pause(List<Long> ids, ResendUnavailableException cause) {
+        pausedUntil = Instant.now().plus(throttlePause);
+        outbox.postpone(ids, pausedUntil);
+        log.warn("{}; pausing delivery of {} emails for {}", cause.getMessage(), ids.size(), throttlePause);
+    }
+
+    private static EmailMessage toEmail(EmailOutboxMessage message) {
+        return new EmailMessage(message.getRecipient(), message.getSubject(), message.getHtml(), message.getReplyTo());
+    }
+
+    private void markFailed(List<EmailOutboxMessage> batch, Exception cause) {
+        Instant now = Instant.now();
+
+        for (EmailOutboxMessage message : batch) {
+            if (outbox.markFailed(message.getId(), cause.getMessage(), now)) {
+                deadLetteredCounter.increment();
+                log.error("Email {} to {} moved to dead letters", message.getId(), message.getRecipient());
+            } else {
+                retriedCounter.increment();
+            }
+        }
+
+        log.warn("Batch of {} emails failed; will retry: {}", batch.size(), cause.getMessage());
+    }
+}
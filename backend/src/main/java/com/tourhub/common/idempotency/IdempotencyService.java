@@ -0,0 +1,101 @@
+package com.tourhub.common.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourhub.common.result.ApiError;
+import com.tourhub.common.result.Result;
+import com.tourhub.security.crypto.TokenHasher;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Replay store for the Idempotency-Key header. A successful response is
+ * remembered in the same transaction as the work it describes, so the unique
+ * (scope, key) constraint lets exactly one of several concurrent retries
+ * commit; the others roll back and replay the winner's response.
+ *
+ * Failed results are not remembered: nothing was changed, so a retry may
+ * simply run again.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public Result<Void> validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Result.fail(ApiError.badRequest(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+        }
+
+        return Result.ok();
+    }
+
+    // The caller is part of the fingerprint so a key cannot replay someone
+    // else's response unless the whole request matches as well.
+    public String fingerprint(Object caller, Object request) {
+        return TokenHasher.sha256Hex(caller + ":" + toJson(request));
+    }
+
+    /**
+     * @return empty when the key has not been used yet, otherwise the stored
+     *         response or a failure if the key was used for another request
+     */
+    public <T> Optional<Result<T>> replay(String scope, String key, String fingerprint, Class<T> type) {
+        return repository.findByScopeAndIdempotencyKey(scope, key)
+                .map(stored -> {
+                    if (!stored.getRequestFingerprint().equals(fingerprint)) {
+                        return Result.<T>fail(ApiError.badRequest(
+                                HEADER + " was already used for a different request"));
+                    }
+
+                    return Result.ok(fromJson(stored.getResponseBody(), type));
+                });
+    }
+
+    // Flushes immediately so a concurrent duplicate fails here, inside the
+    // transaction that would otherwise commit a second result.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remember(String scope, String key, String fingerprint, Object response) {
+        repository.saveAndFlush(IdempotencyRecord.builder()
+                .scope(scope)
+                .idempotencyKey(key)
+                .requestFingerprint(fingerprint)
+                .responseBody(toJson(response))
+                .build());
+    }
+
+    @Transactional
+    public int purgeCreatedBefore(Instant cutoff) {
+        return repository.deleteCreatedBefore(cutoff);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent payload", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored idempotent response", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tourhub.common.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tourhub.common.idempotency.IdempotencyService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyService idempotencyService;
+
+    // Far beyond any client retry window and the 15 minute reservation hold.
+    @Value("${app.jobs.idempotency-cleanup.retention:24h}")
+    private Duration retention;
+
+    @Scheduled(cron = "${app.jobs.idempotency-cleanup.cron:0 30 * * * *}")
+    public void purgeOldKeys() {
+
+        int deleted = idempotencyService.purgeCreatedBefore(Instant.now().minus(retention));
+
+        if (deleted > 0) {
+            log.info("Deleted {} idempotency keys", deleted);
+        }
+    }
+}
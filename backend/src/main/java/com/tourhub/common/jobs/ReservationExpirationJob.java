@@ -1,45 +1,54 @@
 package com.tourhub.common.jobs;
 
 import java.time.Instant;
-import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.tourhub.order.model.Order;
-import com.tourhub.order.model.OrderItem;
-import com.tourhub.order.model.OrderStatus;
-import com.tourhub.tour.model.TourSchedule;
-import com.tourhub.order.repository.OrderRepository;
+import com.tourhub.order.service.ReservationExpirationService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ReservationExpirationJob {
 
-    private final OrderRepository orderRepo;
+    private final ReservationExpirationService expirationService;
 
-    @Scheduled(fixedDelay = 60000)
-    @Transactional
-    public void expireReservations() {
+    @Value("${app.jobs.reservation-expiry.batch-size:200}")
+    private int batchSize;
 
-        List<Order> expired = orderRepo
-                .findExpiredReservations(Instant.now());
+    // Caps one run so a large backlog is drained over several runs.
+    @Value("${app.jobs.reservation-expiry.max-batches:50}")
+    private int maxBatches;
 
-        for (Order order : expired) {
+    // Safety net: ReservationExpiryTimer expires reservations on their
+    // deadline, but its queue is per instance and in memory. This catches
+    // what it missed (restarts, instances that went down), so the interval
+    // bounds how long such seats stay held; the claim is a cheap indexed
+    // query, so it keeps the old one-minute cadence.
+    @Scheduled(fixedDelayString = "${app.jobs.reservation-expiry.poll-interval-ms:60000}")
+    public void expireReservations() {
 
-            for (OrderItem item : order.getOrderItems()) {
+        Instant now = Instant.now();
+        int total = 0;
 
-                TourSchedule schedule = item.getSchedule();
+        for (int batch = 0; batch < maxBatches; batch++) {
 
-                schedule.releaseReserved(item.getParticipants());
+            // Each batch commits on its own.
+            int expired = expirationService.expireBatch(now, batchSize);
+            total += expired;
 
-                item.setStatus(OrderStatus.EXPIRED);
+            if (expired < batchSize) {
+                break;
             }
+        }
 
-            order.setStatus(OrderStatus.EXPIRED);
+        if (total > 0) {
+            log.info("Expired {} reservations", total);
         }
     }
 }
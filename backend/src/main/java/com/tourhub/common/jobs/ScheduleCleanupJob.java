@@ -2,48 +2,102 @@ package com.tourhub.common.jobs;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.tourhub.tour.model.TourSchedule;
-import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.repository.TourAvailabilityRepository;
+import com.tourhub.tour.service.ScheduleExpirationService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ScheduleCleanupJob {
 
-    private final TourScheduleRepository scheduleRepository;
+    private final ScheduleExpirationService expirationService;
+    private final TourAvailabilityRepository availabilityRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jobs.schedule-cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jobs.availability-refresh.enabled:true}")
+    private boolean availabilityRefreshEnabled;
+
+    /* -------------------- Micrometer meters -------------------- */
+
+    private Counter expiredCounter() {
+        return Counter.builder("schedule_cleanup_expired_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
+
+    private Timer durationTimer() {
+        return Timer.builder("schedule_cleanup_duration")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
+
+    private Timer availabilityRefreshTimer() {
+        return Timer.builder("tour_availability_refresh_duration")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
+
+    /* -------------------- Jobs -------------------- */
 
     /**
-     * Runs every minute for testing (adjust cron for production, e.g., daily)
+     * Marks past ACTIVE schedules EXPIRED in committed batches. Runs daily
+     * shortly after midnight by default.
      */
-    @Scheduled(fixedRate = 24 * 60 * 60 * 1000) // 24 hour interval
-    @Transactional
+    @Scheduled(cron = "${app.jobs.schedule-cleanup.cron:0 10 0 * * *}")
     public void expirePastSchedules() {
         LocalDate today = LocalDate.now();
         LocalTime now = LocalTime.now();
 
-        // Load only ACTIVE schedules
-        List<TourSchedule> activeSchedules = scheduleRepository.findByStatus("ACTIVE");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
+        int expired;
+
+        do {
+            expired = expirationService.expireBatch(today, now, batchSize);
+            total += expired;
+        } while (expired == batchSize);
 
-        // Filter schedules that are past and mark as EXPIRED
-        List<TourSchedule> toExpire = activeSchedules.stream()
-                .filter(s -> {
-                    LocalDate date = s.getDate();
-                    LocalTime time = s.getTime() != null ? s.getTime() : LocalTime.MIN;
-                    return date.isBefore(today) || (date.isEqual(today) && time.isBefore(now));
-                })
-                .collect(Collectors.toList());
+        sample.stop(durationTimer());
+        expiredCounter().increment(total);
+
+        if (total > 0) {
+            log.info("Expired {} past schedules", total);
+        }
+    }
+
+    // Search filters and BookableTourPool read tour_availability, so this
+    // interval bounds how long a sold-out or newly scheduled tour is shown
+    // with its previous availability. Replicas take turns through an
+    // advisory lock instead of each running the same refresh.
+    @Scheduled(fixedDelayString = "${app.jobs.availability-refresh.interval-ms:60000}")
+    @Transactional
+    public void refreshAvailability() {
+        if (!availabilityRefreshEnabled) {
+            return;
+        }
 
-        // Update statuses safely within the transaction
-        toExpire.forEach(s -> s.setStatus("EXPIRED"));
+        if (!availabilityRepository.tryLockRefresh()) {
+            log.debug("Tour availability is being refreshed by another instance, skipping");
+            return;
+        }
 
-        scheduleRepository.saveAll(toExpire);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        availabilityRepository.refresh();
+        sample.stop(availabilityRefreshTimer());
     }
 }
@@ -2,18 +2,17 @@ package com.tourhub.common.jobs;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.EnumSet;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.tourhub.session.model.SessionStatus;
-import com.tourhub.tour.model.TourSchedule;
-import com.tourhub.session.model.TourSession;
-import com.tourhub.session.repository.TourSessionRepository;
+import com.tourhub.session.service.SessionExpirationService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,56 +21,50 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SessionCleanupJob {
 
-    private static final List<SessionStatus> EXPIRABLE_STATUSES = List.copyOf(EnumSet.of(
-            SessionStatus.PENDING,
-            SessionStatus.PLANNED,
-            SessionStatus.PAID,
-            SessionStatus.PARTIALLY_PAID,
-            SessionStatus.CONFIRMED,
-            SessionStatus.PARTIALLY_CANCELLED,
-            SessionStatus.REFUNDED,
-            SessionStatus.PARTIALLY_REFUNDED));
+    private final SessionExpirationService expirationService;
+    private final MeterRegistry meterRegistry;
 
-    private final TourSessionRepository sessionRepository;
+    @Value("${app.jobs.session-cleanup.batch-size:500}")
+    private int batchSize;
 
-    @Scheduled(fixedRate = 24 * 60 * 60 * 1000)
-    @Transactional
-    public void expirePastSessionsWithoutParticipants() {
-        LocalDate today = LocalDate.now();
-        LocalTime now = LocalTime.now();
-
-        List<TourSession> sessions = sessionRepository.findByStatusIn(EXPIRABLE_STATUSES);
+    /* -------------------- Micrometer meters -------------------- */
 
-        List<TourSession> toExpire = sessions.stream()
-                .filter(session -> shouldExpire(session, today, now))
-                .toList();
+    private Counter expiredCounter() {
+        return Counter.builder("session_cleanup_expired_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
 
-        toExpire.forEach(session -> session.setStatus(SessionStatus.EXPIRED));
+    private Timer durationTimer() {
+        return Timer.builder("session_cleanup_duration")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
 
-        sessionRepository.saveAll(toExpire);
+    /* -------------------- Job -------------------- */
 
-        log.info("Expired {} past sessions without booked participants", toExpire.size());
-    }
+    @Scheduled(fixedRate = 24 * 60 * 60 * 1000)
+    public void expirePastSessionsWithoutParticipants() {
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
 
-    private boolean shouldExpire(TourSession session, LocalDate today, LocalTime now) {
-        TourSchedule schedule = session.getSchedule();
-        if (schedule == null || schedule.getDate() == null) {
-            return false;
-        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long afterId = 0;
+        int total = 0;
+        List<Long> chunk;
 
-        int bookedParticipants = schedule.getBookedParticipants() != null
-                ? schedule.getBookedParticipants()
-                : 0;
+        do {
+            chunk = expirationService.expireBatch(today, now, afterId, batchSize);
 
-        if (bookedParticipants > 0) {
-            return false;
-        }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1);
+                total += chunk.size();
+            }
+        } while (chunk.size() == batchSize);
 
-        LocalTime scheduledTime = schedule.getTime() != null
-                ? schedule.getTime()
-                : LocalTime.MIN;
+        sample.stop(durationTimer());
+        expiredCounter().increment(total);
 
-        return schedule.getDate().isBefore(today)
-                || (schedule.getDate().isEqual(today) && scheduledTime.isBefore(now));
+        log.info("Expired {} past sessions without booked participants", total);
     }
 }
@@ -0,0 +1,31 @@
+package com.tourhub.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a keyset-paginated listing. No total is computed; the client
+ * keeps following {@code nextCursor} until {@code hasNext} is false.
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    /**
+     * @param rows rows fetched with a limit of {@code size + 1}; the extra row
+     *             only signals that another page exists
+     */
+    public static <E, T> CursorPage<T> of(
+            List<E> rows,
+            int size,
+            Function<E, KeysetCursor> cursorOf,
+            Function<E, T> mapper) {
+
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(page.get(page.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,85 @@
+package com.tourhub.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Position in a listing ordered by (createdAt DESC, id DESC), or by id DESC
+ * alone when the entity has no creation timestamp. Travels to the client as
+ * an opaque token.
+ */
+public record KeysetCursor(Instant createdAt, long id) {
+
+    public static final Sort NEWEST_FIRST = Sort.by(
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id"));
+
+    public static final Sort HIGHEST_ID_FIRST = Sort.by(Sort.Order.desc("id"));
+
+    public String encode() {
+        String raw = createdAt != null
+                ? createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id
+                : Long.toString(id);
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by
+     *                                  {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+
+            if (parts.length == 1) {
+                return new KeysetCursor(null, Long.parseLong(parts[0]));
+            }
+
+            if (parts.length == 3) {
+                int nanos = Integer.parseInt(parts[1]);
+
+                if (nanos < 0 || nanos > 999_999_999) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+
+                Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), nanos);
+
+                return new KeysetCursor(createdAt, Long.parseLong(parts[2]));
+            }
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    /**
+     * Rows strictly after this position in the cursor order:
+     * {@code created_at <= X AND (created_at < X OR id < Y)}. The leading
+     * conjunct is implied by the OR, but Postgres cannot turn the OR alone
+     * into a range bound, so without it the (created_at, id) index would
+     * only supply the sort order and every newer row would still be read
+     * and filtered out.
+     */
+    public <T> Specification<T> after() {
+        return (root, query, cb) -> {
+            if (createdAt == null) {
+                return cb.lessThan(root.get("id"), id);
+            }
+
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                    cb.or(
+                            cb.lessThan(root.get("createdAt"), createdAt),
+                            cb.lessThan(root.get("id"), id)));
+        };
+    }
+}
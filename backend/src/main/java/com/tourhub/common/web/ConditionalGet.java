@@ -0,0 +1,50 @@
+package com.tourhub.common.web;
+
+import java.time.Instant;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.tourhub.common.result.Result;
+import com.tourhub.common.result.ResultResponseMapper;
+
+/**
+ * Conditional GET for public reads. Controllers look up the version of what
+ * they are about to serve (an updated_at stamp), and a matching If-None-Match
+ * is answered with 304 before the service layer runs.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static String etag(String kind, Object id, Instant version) {
+        if (version == null) {
+            return null;
+        }
+
+        // Microsecond precision, matching what Postgres stores.
+        return "\"" + kind + "-" + id + "-" + version.getEpochSecond() + "." + version.getNano() / 1000 + "\"";
+    }
+
+    /**
+     * Returns true when the client already holds this version; the 304 has
+     * then been written and the handler should return null.
+     */
+    public static boolean notModified(WebRequest request, String etag, Instant version) {
+        return etag != null && request.checkNotModified(etag, version.toEpochMilli());
+    }
+
+    public static <T> ResponseEntity<?> toResponse(Result<T> result, String etag, Instant version) {
+        if (etag == null || result.isFail()) {
+            return ResultResponseMapper.toResponse(result);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(version)
+                .cacheControl(CacheControl.noCache())
+                .body(result.get());
+    }
+}
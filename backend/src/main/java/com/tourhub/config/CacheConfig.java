@@ -0,0 +1,80 @@
+package com.tourhub.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Read-through caches for the public tour detail page, plus the storefront
+ * branding used by outgoing email.
+ *
+ * The caching advice runs outside the transactional one, so a hit never opens
+ * a transaction, and evictions issued inside a transaction (see
+ * TourScheduleCacheListener) are deferred until it commits. Hit/miss counters
+ * are exported as {@code cache.gets} because every cache records stats and is
+ * registered up front.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String TOURS = "tours";
+    public static final String TOUR_SCHEDULES = "tourSchedules";
+    public static final String TOUR_IMAGES = "tourImages";
+    public static final String EMAIL_BRANDING = "emailBranding";
+
+    @Value("${app.cache.tours.maximum-size:5000}")
+    private long toursMaximumSize;
+
+    @Value("${app.cache.tours.ttl:10m}")
+    private Duration toursTtl;
+
+    // Seat counts change on every reservation, keep this one short-lived.
+    @Value("${app.cache.tour-schedules.maximum-size:5000}")
+    private long schedulesMaximumSize;
+
+    @Value("${app.cache.tour-schedules.ttl:1m}")
+    private Duration schedulesTtl;
+
+    @Value("${app.cache.tour-images.maximum-size:5000}")
+    private long imagesMaximumSize;
+
+    @Value("${app.cache.tour-images.ttl:30m}")
+    private Duration imagesTtl;
+
+    // Evicted on update; the TTL only matters for the other instances.
+    @Value("${app.cache.email-branding.ttl:5m}")
+    private Duration emailBrandingTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        caffeine.setAllowNullValues(false);
+
+        caffeine.registerCustomCache(TOURS, build(toursMaximumSize, toursTtl));
+        caffeine.registerCustomCache(TOUR_SCHEDULES, build(schedulesMaximumSize, schedulesTtl));
+        caffeine.registerCustomCache(TOUR_IMAGES, build(imagesMaximumSize, imagesTtl));
+        caffeine.registerCustomCache(EMAIL_BRANDING, build(1, emailBrandingTtl));
+
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> build(
+            long maximumSize, Duration ttl) {
+
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.tourhub.order.controller;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,14 +20,15 @@ import com.tourhub.security.CustomUserDetails;
 import com.tourhub.payment.service.StripeService;
 import com.tourhub.user.model.User;
 import com.tourhub.user.repository.UserRepository;
+import com.tourhub.common.idempotency.IdempotencyService;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
 import com.tourhub.common.result.ResultResponseMapper;
 import com.tourhub.order.dto.FinalizeReservationDto;
 import com.tourhub.order.dto.OrderCreateRequestDto;
+import com.tourhub.order.dto.OrderResponseDto;
 import com.tourhub.order.dto.OrderStatusDto;
 import com.tourhub.order.dto.ReserveResponseDto;
-import com.tourhub.order.model.Order;
 import com.tourhub.order.service.OrderService;
 import com.tourhub.order.service.ReservationService;
 
@@ -44,6 +47,7 @@ public class CheckoutController {
     @PostMapping("/reserve")
     public ResponseEntity<?> reserve(
             @RequestBody OrderCreateRequestDto request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
 
         User user = null;
@@ -54,7 +58,15 @@ public class CheckoutController {
             user = userRepository.findById(details.getId()).orElse(null);
         }
 
-        Result<Order> result = reservationService.reserve(request, user);
+        Result<ReserveResponseDto> result;
+
+        try {
+            result = reservationService.reserve(request, user, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent retry with the same key committed first; its
+            // reservation is the one the client gets.
+            result = reservationService.replay(request, user, idempotencyKey).orElseThrow(() -> e);
+        }
 
         if (result.isFail()) {
             ApiError error = result.error();
@@ -64,14 +76,7 @@ public class CheckoutController {
                     .body(error);
         }
 
-        Order order = result.get();
-
-        return ResponseEntity.ok(
-                new ReserveResponseDto(
-                        order.getId(),
-                        order.getExpiresAt(),
-                        order.getStatus(),
-                        order.getReservationToken().toString()));
+        return ResponseEntity.ok(result.get());
     }
 
     private HttpStatus mapStatus(ApiError error) {
@@ -86,14 +91,20 @@ public class CheckoutController {
 
     @PostMapping("/finalize")
     public ResponseEntity<?> finalizeReservation(
-            @RequestBody FinalizeReservationDto dto) {
+            @RequestBody FinalizeReservationDto dto,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
 
         UUID token = UUID.fromString(dto.reservationToken());
 
-        return ResultResponseMapper.toResponse(
-                orderService.finalizeReservation(
-                        dto.orderId(),
-                        token));
+        Result<OrderResponseDto> result;
+
+        try {
+            result = orderService.finalizeReservation(dto.orderId(), token, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            result = orderService.replayFinalize(dto.orderId(), token, idempotencyKey).orElseThrow(() -> e);
+        }
+
+        return ResultResponseMapper.toResponse(result);
     }
 
     @GetMapping("/{id}/status")
@@ -54,7 +54,14 @@ public class OrderController {
                         @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate from,
                         @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) java.time.LocalDate to,
                         @RequestParam(name = "page", defaultValue = "0") int page,
-                        @RequestParam(name = "size", defaultValue = "10") int size) {
+                        @RequestParam(name = "size", defaultValue = "10") int size,
+                        @RequestParam(name = "cursor", required = false) String cursor) {
+
+                // Any cursor parameter, even empty, selects keyset paging.
+                if (cursor != null) {
+                        return ResultResponseMapper.toResponse(
+                                        orderService.searchOrdersForAdminByCursor(query, status, from, to, cursor, size));
+                }
 
                 return ResultResponseMapper.toResponse(
                                 orderService.searchOrdersForAdmin(query, status, from, to, page, size));
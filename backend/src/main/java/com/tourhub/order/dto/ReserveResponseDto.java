@@ -4,8 +4,10 @@ import java.time.Instant;
 import com.tourhub.order.model.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class ReserveResponseDto {
 
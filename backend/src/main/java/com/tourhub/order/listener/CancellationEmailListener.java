@@ -1,6 +1,8 @@
 package com.tourhub.order.listener;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
 
@@ -21,7 +23,10 @@ public class CancellationEmailListener {
     private final OrderItemRepository orderItemRepository;
     private final EmailService emailService;
 
+    // The cancellation has already committed; the outbox insert needs a
+    // transaction of its own.
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleOrderItemCancelled(OrderItemCancelledEvent event) {
 
         OrderItem item = orderItemRepository.findById(event.orderItemId())
@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -87,4 +88,34 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             """)
     List<OrderItem> findPaidBySessionIdWithSchedule(@Param("sessionId") Long sessionId);
 
+    @Query("SELECT DISTINCT oi.tour.id FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    List<Long> findTourIdsByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    @Query("SELECT DISTINCT oi.schedule.id FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    List<Long> findScheduleIdsByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    // Bypasses Envers; callers record the change with writeAuditRowsByOrderIds.
+    @Modifying
+    @Query("UPDATE OrderItem oi SET oi.status = :status WHERE oi.order.id IN :orderIds")
+    int updateStatusByOrderIds(@Param("orderIds") List<Long> orderIds, @Param("status") OrderStatus status);
+
+    // Copies the current state of the items into order_items_aud under an
+    // AuditRevisions revision.
+    @Modifying
+    @Query(value = """
+                INSERT INTO order_items_aud (id, rev, revtype, order_id, tour_id, schedule_id, session_id,
+                        shop_id, tour_title, scheduled_at, participants, tour_snapshot, name, email, phone,
+                        nationality, price_paid, payment_method, status, created_at, manager_id,
+                        preferred_language, comment, cancelled_at, cancellation_reason,
+                        cancellation_reason_type, cancelled_by)
+                SELECT i.id, :rev, 1, i.order_id, i.tour_id, i.schedule_id, i.session_id,
+                        i.shop_id, i.tour_title, i.scheduled_at, i.participants, i.tour_snapshot, i.name, i.email, i.phone,
+                        i.nationality, i.price_paid, i.payment_method, i.status, i.created_at, i.manager_id,
+                        i.preferred_language, i.comment, i.cancelled_at, i.cancellation_reason,
+                        i.cancellation_reason_type, i.cancelled_by
+                FROM order_items i
+                WHERE i.order_id IN (:orderIds)
+            """, nativeQuery = true)
+    int writeAuditRowsByOrderIds(@Param("orderIds") List<Long> orderIds, @Param("rev") int rev);
+
 }
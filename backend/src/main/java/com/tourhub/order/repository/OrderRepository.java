@@ -1,29 +1,80 @@
 package com.tourhub.order.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.tourhub.order.model.Order;
+import com.tourhub.order.model.OrderStatus;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
         // Fetch all orders for a specific user
         List<Order> findByUserId(UUID userId);
 
-        @Query("""
-                            SELECT o FROM Order o
+        /*
+         * Reservation expiry: claims a bounded batch of expired reservations.
+         * Rows locked by checkout or another expiry run are skipped rather
+         * than waited on; they are picked up on the next pass.
+         */
+        @Query(value = """
+                            SELECT o.id FROM orders o
                             WHERE o.status IN ('RESERVED', 'FINALIZED')
-                            AND o.expiresAt < :now
-                        """)
-        List<Order> findExpiredReservations(@Param("now") Instant now);
+                            AND o.expires_at < :now
+                            ORDER BY o.id
+                            LIMIT :limit
+                            FOR UPDATE SKIP LOCKED
+                        """, nativeQuery = true)
+        List<Long> claimExpiredReservationIds(@Param("now") Instant now, @Param("limit") int limit);
+
+        // Rebuilds ReservationExpiryTimer on startup.
+        @Query("SELECT o.expiresAt FROM Order o WHERE o.status IN :statuses AND o.expiresAt IS NOT NULL")
+        List<Instant> findPendingExpiries(@Param("statuses") Collection<OrderStatus> statuses);
+
+        // Bulk updates skip Envers and @LastModifiedDate: updatedAt is set
+        // here, and callers record the change with writeAuditRows.
+        @Modifying
+        @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :now WHERE o.id IN :ids")
+        int updateStatusByIds(
+                        @Param("ids") List<Long> ids,
+                        @Param("status") OrderStatus status,
+                        @Param("now") Instant now);
+
+        /*
+         * Moves one order from one status to the next only if it is still in
+         * the expected one. The row lock it takes makes the expiry claim skip
+         * the order, and it returns 0 when expiry got there first.
+         */
+        @Modifying
+        @Query("UPDATE Order o SET o.status = :to WHERE o.id = :id AND o.status = :from")
+        int transitionStatus(
+                        @Param("id") Long id,
+                        @Param("from") OrderStatus from,
+                        @Param("to") OrderStatus to);
+
+        // Copies the current state of the orders into orders_aud under an
+        // AuditRevisions revision.
+        @Modifying
+        @Query(value = """
+                        INSERT INTO orders_aud (id, rev, revtype, total_price, created_at, updated_at,
+                                user_id, payment_method, status, expires_at, reservation_token,
+                                cancellation_token_hash, cancellation_token_expires_at)
+                        SELECT o.id, :rev, 1, o.total_price, o.created_at, o.updated_at,
+                                o.user_id, o.payment_method, o.status, o.expires_at, o.reservation_token,
+                                o.cancellation_token_hash, o.cancellation_token_expires_at
+                        FROM orders o
+                        WHERE o.id IN (:ids)
+                        """, nativeQuery = true)
+        int writeAuditRows(@Param("ids") List<Long> ids, @Param("rev") int rev);
 
         Optional<Order> findByIdAndReservationToken(
                         Long id,
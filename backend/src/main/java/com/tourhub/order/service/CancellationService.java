@@ -13,8 +13,8 @@ import com.tourhub.payment.model.PaymentLine;
 import com.tourhub.payment.model.PaymentLineType;
 import com.tourhub.payment.model.PaymentStatus;
 import com.tourhub.payment.repository.PaymentLineRepository;
-import com.tourhub.tour.model.TourSchedule;
 import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
 import com.stripe.model.Refund;
 import com.stripe.net.RequestOptions;
 import com.stripe.param.RefundCreateParams;
@@ -30,6 +30,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +39,8 @@ public class CancellationService {
 
         private final OrderItemRepository orderItemRepository;
         private final TourScheduleRepository tourScheduleRepository;
+        private final TourCacheInvalidator tourCacheInvalidator;
+        private final SeatAdmissionGate seatAdmissionGate;
         private final PaymentLineRepository paymentLineRepository;
         private final ApplicationEventPublisher eventPublisher;
 
@@ -196,26 +199,20 @@ public class CancellationService {
 
         /**
          * Releases previously booked participants.
-         * Uses SELECT FOR UPDATE via repository method.
+         * The counter is decremented in the database so a stale entity cannot
+         * overwrite it; the update itself takes the row lock.
          */
         private void releaseInventory(OrderItem item) {
 
-                TourSchedule schedule = tourScheduleRepository
-                                .findByIdForUpdate(item.getSchedule().getId())
-                                .orElseThrow(() -> new IllegalStateException("Schedule not found"));
+                Long scheduleId = item.getSchedule().getId();
 
-                int qty = item.getParticipants();
-
-                int currentBooked = schedule.getBookedParticipants() == null
-                                ? 0
-                                : schedule.getBookedParticipants();
-
-                schedule.setBookedParticipants(Math.max(0, currentBooked - qty));
-
-                // If it was marked BOOKED, reopen if capacity exists
-                if ("BOOKED".equals(schedule.getStatus())) {
-                        schedule.setStatus("ACTIVE");
+                // Also reopens a BOOKED schedule.
+                if (tourScheduleRepository.releaseBookedSeats(scheduleId, item.getParticipants()) == 0) {
+                        throw new IllegalStateException("Schedule not found");
                 }
+
+                tourCacheInvalidator.evictSchedules(item.getTour().getId());
+                seatAdmissionGate.reconcile(List.of(scheduleId));
         }
 
         /**
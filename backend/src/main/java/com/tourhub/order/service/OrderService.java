@@ -7,18 +7,23 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -44,6 +49,8 @@ import com.tourhub.order.repository.OrderItemRepository;
 import com.tourhub.order.repository.OrderRepository;
 import com.tourhub.tour.repository.TourRepository;
 import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.ScheduleLockService;
+import com.tourhub.tour.service.TourCacheInvalidator;
 import com.tourhub.session.repository.TourSessionRepository;
 import com.tourhub.security.CurrentUserService;
 import com.tourhub.security.CustomUserDetails;
@@ -55,6 +62,9 @@ import com.tourhub.shop.model.ShopUserStatus;
 import com.tourhub.shop.repository.ShopUserRepository;
 import com.tourhub.user.model.User;
 import com.tourhub.user.repository.UserRepository;
+import com.tourhub.common.idempotency.IdempotencyService;
+import com.tourhub.common.pagination.CursorPage;
+import com.tourhub.common.pagination.KeysetCursor;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
 
@@ -66,6 +76,8 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class OrderService {
 
+        public static final String FINALIZE_IDEMPOTENCY_SCOPE = "CHECKOUT_FINALIZE";
+
         private final OrderRepository orderRepository;
         private final UserRepository userRepository;
         private final TourRepository tourRepository;
@@ -77,6 +89,10 @@ public class OrderService {
         private final CurrentUserService currentUserService;
         private final TourSessionRepository tourSessionRepository;
         private final PaymentService paymentService;
+        private final TourCacheInvalidator tourCacheInvalidator;
+        private final ScheduleLockService scheduleLockService;
+        private final IdempotencyService idempotencyService;
+        private final SeatAdmissionGate seatAdmissionGate;
 
         @Transactional(readOnly = true)
         public Result<Page<OrderResponseDto>> searchOrdersForAdmin(
@@ -87,6 +103,71 @@ public class OrderService {
                         int page,
                         int size) {
 
+                Result<Specification<Order>> filter = buildAdminOrderFilter(query, status, from, to);
+
+                if (filter.isFail()) {
+                        return Result.fail(filter.getErrorOrThrow());
+                }
+
+                Pageable pageable = PageRequest.of(page, size, KeysetCursor.NEWEST_FIRST);
+
+                Page<Order> result = orderRepository.findAll(filter.get(), pageable);
+
+                return Result.ok(result.map(orderMapper::toDto));
+        }
+
+        /*
+         * Keyset variant of searchOrdersForAdmin: same filters and order, but
+         * continues from a cursor instead of an offset and never counts, so
+         * deep pages cost the same as the first one.
+         */
+        @Transactional(readOnly = true)
+        public Result<CursorPage<OrderResponseDto>> searchOrdersForAdminByCursor(
+                        String query,
+                        String status,
+                        LocalDate from,
+                        LocalDate to,
+                        String cursor,
+                        int size) {
+
+                if (size < 1) {
+                        return Result.fail(ApiError.badRequest("Page size must be positive"));
+                }
+
+                Result<Specification<Order>> filter = buildAdminOrderFilter(query, status, from, to);
+
+                if (filter.isFail()) {
+                        return Result.fail(filter.getErrorOrThrow());
+                }
+
+                Specification<Order> spec = filter.get();
+
+                if (cursor != null && !cursor.isBlank()) {
+                        try {
+                                spec = spec.and(KeysetCursor.decode(cursor).after());
+                        } catch (IllegalArgumentException ex) {
+                                return Result.fail(ApiError.badRequest("Invalid cursor"));
+                        }
+                }
+
+                List<Order> rows = orderRepository.findBy(spec, q -> q
+                                .sortBy(KeysetCursor.NEWEST_FIRST)
+                                .limit(size + 1)
+                                .all());
+
+                return Result.ok(CursorPage.of(
+                                rows,
+                                size,
+                                order -> new KeysetCursor(order.getCreatedAt(), order.getId()),
+                                orderMapper::toDto));
+        }
+
+        private Result<Specification<Order>> buildAdminOrderFilter(
+                        String query,
+                        String status,
+                        LocalDate from,
+                        LocalDate to) {
+
                 if (from != null && to != null && from.isAfter(to)) {
                         return Result.fail(ApiError.badRequest("'From' date must be before or equal to 'To' date"));
                 }
@@ -98,13 +179,6 @@ public class OrderService {
                         return Result.fail(ApiError.badRequest("Invalid order status"));
                 }
 
-                Pageable pageable = PageRequest.of(
-                                page,
-                                size,
-                                Sort.by(
-                                                Sort.Order.desc("createdAt"),
-                                                Sort.Order.desc("id")));
-
                 Instant createdFrom = from != null
                                 ? from.atStartOfDay(ZoneOffset.UTC).toInstant()
                                 : null;
@@ -113,15 +187,11 @@ public class OrderService {
                                 ? to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()
                                 : null;
 
-                Page<Order> result = orderRepository.findAll(
-                                buildAdminOrderSpecification(
-                                                normalizedQuery,
-                                                normalizedStatus,
-                                                createdFrom,
-                                                createdTo),
-                                pageable);
-
-                return Result.ok(result.map(orderMapper::toDto));
+                return Result.ok(buildAdminOrderSpecification(
+                                normalizedQuery,
+                                normalizedStatus,
+                                createdFrom,
+                                createdTo));
         }
 
         @Transactional
@@ -148,6 +218,11 @@ public class OrderService {
                 return Result.ok(orderMapper.toDto(saved));
         }
 
+        /*
+         * Shared by createOrder and ReservationService.reserve. Both paths pass
+         * the admission gate first, so requests for a departure the gate already
+         * knows to be sold out never reach the seat updates.
+         */
         @Transactional
         protected Result<Order> buildOrder(
                         OrderCreateRequestDto dto,
@@ -155,6 +230,36 @@ public class OrderService {
                         OrderStatus orderStatus,
                         boolean reserveOnly) {
 
+                SeatAdmissionGate.Admission admission = seatAdmissionGate.tryAdmit(seatsBySchedule(dto));
+
+                if (!admission.isAdmitted()) {
+                        return Result.fail(ApiError.badRequest("Not enough spots available for this schedule"));
+                }
+
+                Result<Order> built = assembleOrder(dto, user, orderStatus, reserveOnly);
+
+                if (built.isFail()) {
+                        admission.release();
+                }
+
+                return built;
+        }
+
+        private Map<Long, Integer> seatsBySchedule(OrderCreateRequestDto dto) {
+                return dto.getItems().stream()
+                                .filter(item -> item.getScheduleId() != null && item.getParticipants() != null)
+                                .collect(Collectors.toMap(
+                                                OrderItemCreateRequestDto::getScheduleId,
+                                                OrderItemCreateRequestDto::getParticipants,
+                                                Integer::sum));
+        }
+
+        private Result<Order> assembleOrder(
+                        OrderCreateRequestDto dto,
+                        User user,
+                        OrderStatus orderStatus,
+                        boolean reserveOnly) {
+
                 Order order = Order.builder()
                                 .user(user)
                                 .paymentMethod(dto.getPaymentMethod())
@@ -163,52 +268,78 @@ public class OrderService {
 
                 BigDecimal totalPrice = BigDecimal.ZERO;
 
+                // The whole cart is resolved up front, tours with their shops in one
+                // query and schedules in a second one. Nothing is locked yet.
+                Map<Long, Tour> tours = new HashMap<>();
+                tourRepository.findAllById(dto.getItems().stream()
+                                .map(OrderItemCreateRequestDto::getTourId)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toList())
+                                .forEach(tour -> tours.put(tour.getId(), tour));
+
+                Map<Long, TourSchedule> schedules = new HashMap<>();
+                tourScheduleRepository.findAllById(dto.getItems().stream()
+                                .map(OrderItemCreateRequestDto::getScheduleId)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toList())
+                                .forEach(schedule -> schedules.put(schedule.getId(), schedule));
+
+                // Validate the cart in memory before any seats are claimed.
                 for (OrderItemCreateRequestDto itemDto : dto.getItems()) {
 
-                        Tour tour = tourRepository.findById(itemDto.getTourId()).orElse(null);
+                        Tour tour = tours.get(itemDto.getTourId());
                         if (tour == null) {
                                 return Result.fail(ApiError.notFound("Tour not found"));
                         }
 
-                        // 🔒 Lock schedule
-                TourSchedule schedule = tourScheduleRepository
-                                .findByIdForUpdate(itemDto.getScheduleId())
-                                .orElse(null);
+                        TourSchedule schedule = schedules.get(itemDto.getScheduleId());
+                        if (schedule == null) {
+                                return Result.fail(ApiError.notFound("Schedule not found"));
+                        }
 
-                if (schedule == null) {
-                        return Result.fail(ApiError.notFound("Schedule not found"));
+                        if (schedule.getTour() == null
+                                        || schedule.getTour().getId() == null
+                                        || !schedule.getTour().getId().equals(tour.getId())) {
+                                return Result.fail(ApiError.badRequest(
+                                                "Selected schedule does not belong to the requested tour"));
+                        }
                 }
 
-                if (schedule.getTour() == null
-                                || schedule.getTour().getId() == null
-                                || !schedule.getTour().getId().equals(tour.getId())) {
-                        return Result.fail(ApiError.badRequest(
-                                        "Selected schedule does not belong to the requested tour"));
-                }
+                // Claim the seats with one conditional update per item. Each update
+                // keeps its row lock until commit, so items are claimed in ascending
+                // schedule id order and two multi-item checkouts cannot deadlock.
+                List<OrderItemCreateRequestDto> claimed = new ArrayList<>();
 
-                int available = schedule.getAvailableParticipants();
+                for (OrderItemCreateRequestDto itemDto : dto.getItems().stream()
+                                .sorted(Comparator.comparing(OrderItemCreateRequestDto::getScheduleId))
+                                .toList()) {
 
-                        if (itemDto.getParticipants() > available) {
+                        Tour tour = tours.get(itemDto.getTourId());
+
+                        boolean privateTour = "PRIVATE".equalsIgnoreCase(tour.getType());
+                        int updated = reserveOnly
+                                        ? tourScheduleRepository.tryReserveSeats(
+                                                        itemDto.getScheduleId(), itemDto.getParticipants())
+                                        : tourScheduleRepository.tryBookSeats(
+                                                        itemDto.getScheduleId(), itemDto.getParticipants(), privateTour);
+
+                        if (updated == 0) {
+                                releaseClaimedSeats(claimed, reserveOnly);
                                 return Result.fail(
                                                 ApiError.badRequest("Not enough spots available for this schedule"));
                         }
 
-                        // Update inventory-related schedule counts.
-                        if (reserveOnly) {
-                                schedule.setReservedParticipants(
-                                                schedule.getReservedParticipants() + itemDto.getParticipants());
-                        } else {
-                                int newBooked = schedule.getBookedParticipants() + itemDto.getParticipants();
+                        claimed.add(itemDto);
+                        tourCacheInvalidator.evictSchedules(tour.getId());
+                }
 
-                                schedule.setBookedParticipants(newBooked);
+                for (OrderItemCreateRequestDto itemDto : dto.getItems()) {
+
+                        Tour tour = tours.get(itemDto.getTourId());
+                        TourSchedule schedule = schedules.get(itemDto.getScheduleId());
 
-                                if ("PRIVATE".equalsIgnoreCase(tour.getType())
-                                                || newBooked >= schedule.getMaxParticipants()) {
-                                        schedule.setStatus("BOOKED");
-                                } else {
-                                        schedule.setStatus("ACTIVE");
-                                }
-                        }
                         BigDecimal price;
                         if ("PRIVATE".equalsIgnoreCase(tour.getType())) {
                                 price = tour.getPrice(); // per tour
@@ -257,6 +388,76 @@ public class OrderService {
                 return Result.ok(order);
         }
 
+        /*
+         * buildOrder reports failures as a Result, so the surrounding transaction
+         * still commits. When a later item cannot get its seats, the seats already
+         * claimed for earlier items of the order are handed back here.
+         */
+        private void releaseClaimedSeats(List<OrderItemCreateRequestDto> claimed, boolean reserveOnly) {
+                for (OrderItemCreateRequestDto itemDto : claimed) {
+                        if (reserveOnly) {
+                                tourScheduleRepository.releaseReservedSeats(
+                                                itemDto.getScheduleId(), itemDto.getParticipants());
+                        } else {
+                                tourScheduleRepository.releaseBookedSeats(
+                                                itemDto.getScheduleId(), itemDto.getParticipants());
+                        }
+                }
+        }
+
+        /**
+         * Finalize with an optional Idempotency-Key; a retry with the same key
+         * returns the stored response instead of running the finalization again.
+         */
+        @Transactional
+        public Result<OrderResponseDto> finalizeReservation(
+                        Long orderId,
+                        UUID token,
+                        String idempotencyKey) {
+
+                if (idempotencyKey == null) {
+                        return finalizeReservation(orderId, token);
+                }
+
+                Result<Void> validKey = idempotencyService.validateKey(idempotencyKey);
+                if (validKey.isFail()) {
+                        return Result.fail(validKey.getErrorOrThrow());
+                }
+
+                Optional<Result<OrderResponseDto>> replayed = replayFinalize(orderId, token, idempotencyKey);
+                if (replayed.isPresent()) {
+                        return replayed.get();
+                }
+
+                Result<OrderResponseDto> result = finalizeReservation(orderId, token);
+
+                if (result.isOk()) {
+                        idempotencyService.remember(
+                                        FINALIZE_IDEMPOTENCY_SCOPE,
+                                        idempotencyKey,
+                                        idempotencyService.fingerprint(orderId, token),
+                                        result.get());
+                }
+
+                return result;
+        }
+
+        public Optional<Result<OrderResponseDto>> replayFinalize(
+                        Long orderId,
+                        UUID token,
+                        String idempotencyKey) {
+
+                if (idempotencyKey == null) {
+                        return Optional.empty();
+                }
+
+                return idempotencyService.replay(
+                                FINALIZE_IDEMPOTENCY_SCOPE,
+                                idempotencyKey,
+                                idempotencyService.fingerprint(orderId, token),
+                                OrderResponseDto.class);
+        }
+
         @Transactional
         public Result<OrderResponseDto> finalizeReservation(
                         Long orderId,
@@ -289,26 +490,53 @@ public class OrderService {
                         return Result.fail(ApiError.badRequest(
                                         "Reservation has expired"));
                 }
+
+                // The status read above is not locked: expiry may have released
+                // the seats since. Claiming the row here keeps it from doing so
+                // until this transaction ends.
+                if (orderRepository.transitionStatus(
+                                orderId, OrderStatus.RESERVED, OrderStatus.FINALIZED) == 0) {
+                        return Result.fail(ApiError.badRequest(
+                                        "Reservation has expired"));
+                }
+
+                // Seats were claimed at reserve time, so schedules are only locked
+                // when their session still has to be created.
+                Map<Long, TourSession> sessions = new HashMap<>();
+                Set<Long> withoutSession = new TreeSet<>();
+
                 for (OrderItem item : order.getOrderItems()) {
+                        Long scheduleId = item.getSchedule().getId();
 
-                        // ensure session exists (this is fine here)
-                        TourSchedule schedule = tourScheduleRepository
-                                        .findByIdForUpdate(item.getSchedule().getId())
-                                        .orElse(null);
+                        tourSessionRepository.findByScheduleId(scheduleId)
+                                        .ifPresentOrElse(
+                                                        session -> sessions.put(scheduleId, session),
+                                                        () -> withoutSession.add(scheduleId));
+                }
 
-                        if (schedule == null) {
-                                return Result.fail(ApiError.notFound("Schedule not found"));
-                        }
+                if (!withoutSession.isEmpty()) {
+                        Map<Long, TourSchedule> locked = scheduleLockService.lockAll(withoutSession);
+
+                        for (Long scheduleId : withoutSession) {
+                                TourSchedule schedule = locked.get(scheduleId);
 
-                        TourSession session = tourSessionRepository
-                                        .findByScheduleId(schedule.getId())
-                                        .orElseGet(() -> tourSessionRepository.save(
-                                                        TourSession.builder()
-                                                                        .schedule(schedule)
-                                                                        .status(SessionStatus.PLANNED)
-                                                                        .build()));
+                                if (schedule == null) {
+                                        return Result.fail(ApiError.notFound("Schedule not found"));
+                                }
 
-                        item.setSession(session);
+                                // Re-check under the lock: a concurrent finalize may have created it.
+                                sessions.put(scheduleId, tourSessionRepository
+                                                .findByScheduleId(scheduleId)
+                                                .orElseGet(() -> tourSessionRepository.save(
+                                                                TourSession.builder()
+                                                                                .schedule(schedule)
+                                                                                .status(SessionStatus.PLANNED)
+                                                                                .build())));
+                        }
+                }
+
+                for (OrderItem item : order.getOrderItems()) {
+                        item.setSession(sessions.get(item.getSchedule().getId()));
                         item.setStatus(OrderStatus.FINALIZED);
                 }
 
@@ -0,0 +1,63 @@
+package com.tourhub.order.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tourhub.common.audit.AuditRevisions;
+import com.tourhub.order.model.OrderStatus;
+import com.tourhub.order.repository.OrderItemRepository;
+import com.tourhub.order.repository.OrderRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationExpirationService {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TourScheduleRepository tourScheduleRepository;
+    private final TourCacheInvalidator cacheInvalidator;
+    private final SeatAdmissionGate seatAdmissionGate;
+    private final AuditRevisions auditRevisions;
+
+    /**
+     * Expires at most {@code limit} reservations in one short transaction
+     * using set-based statements; nothing is loaded into the persistence
+     * context. The status change is written to the order audit tables under
+     * one revision per batch.
+     *
+     * @return the number of orders expired; less than {@code limit} means
+     *         nothing claimable is left
+     */
+    @Transactional
+    public int expireBatch(Instant now, int limit) {
+
+        List<Long> orderIds = orderRepository.claimExpiredReservationIds(now, limit);
+
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> tourIds = orderItemRepository.findTourIdsByOrderIds(orderIds);
+        List<Long> scheduleIds = orderItemRepository.findScheduleIdsByOrderIds(orderIds);
+
+        tourScheduleRepository.releaseReservedForOrders(orderIds);
+        orderItemRepository.updateStatusByOrderIds(orderIds, OrderStatus.EXPIRED);
+        orderRepository.updateStatusByIds(orderIds, OrderStatus.EXPIRED, now);
+
+        int revision = auditRevisions.current();
+        orderRepository.writeAuditRows(orderIds, revision);
+        orderItemRepository.writeAuditRowsByOrderIds(orderIds, revision);
+
+        cacheInvalidator.evictSchedules(tourIds);
+        seatAdmissionGate.reconcile(scheduleIds);
+
+        return orderIds.size();
+    }
+}
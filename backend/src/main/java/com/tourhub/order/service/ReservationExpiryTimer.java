@@ -0,0 +1,153 @@
+package com.tourhub.order.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.tourhub.order.model.OrderStatus;
+import com.tourhub.order.repository.OrderRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Expires reservations close to their deadline instead of waiting for the
+ * next poll of ReservationExpirationJob, which now only runs as a slow
+ * safety net.
+ *
+ * Deadlines are rounded up to the next second, so the queue holds at most one
+ * entry per second of the reservation window. When one is due, a single
+ * worker thread drains every due entry and runs the usual claim-and-release
+ * batches; whatever is due by then is expired, whichever deadline triggered
+ * it. The queue is rebuilt from the database on startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExpiryTimer {
+
+    private static final List<OrderStatus> EXPIRING_STATUSES = List.of(OrderStatus.RESERVED,
+            OrderStatus.FINALIZED);
+
+    private final ReservationExpirationService expirationService;
+    private final OrderRepository orderRepository;
+
+    @Value("${app.reservations.expiry-timer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.jobs.reservation-expiry.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.jobs.reservation-expiry.max-batches:50}")
+    private int maxBatches;
+
+    private final DelayQueue<Deadline> deadlines = new DelayQueue<>();
+    private final Set<Instant> pending = ConcurrentHashMap.newKeySet();
+
+    private volatile Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Instant> expiries = orderRepository.findPendingExpiries(EXPIRING_STATUSES);
+        expiries.forEach(this::schedule);
+
+        worker = new Thread(this::run, "reservation-expiry-timer");
+        worker.setDaemon(true);
+        worker.start();
+
+        log.info("Reservation expiry timer started with {} pending deadlines", pending.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        worker = null;
+
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    public void schedule(Instant expiresAt) {
+        if (!enabled || expiresAt == null) {
+            return;
+        }
+
+        Instant at = expiresAt.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+
+        if (pending.add(at)) {
+            deadlines.put(new Deadline(at));
+        }
+    }
+
+    int pendingDeadlines() {
+        return pending.size();
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            try {
+                pending.remove(deadlines.take().at());
+
+                Deadline due;
+                while ((due = deadlines.poll()) != null) {
+                    pending.remove(due.at());
+                }
+
+                expireDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Reservation expiry failed; the polling job will retry", e);
+            }
+        }
+    }
+
+    private void expireDue() {
+        Instant now = Instant.now();
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int expired = expirationService.expireBatch(now, batchSize);
+            total += expired;
+
+            if (expired < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.debug("Expired {} reservations on deadline", total);
+        }
+    }
+
+    private record Deadline(Instant at) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), at));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return at.compareTo(((Deadline) other).at);
+        }
+    }
+}
@@ -4,13 +4,14 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tourhub.order.dto.OrderCreateRequestDto;
-import com.tourhub.order.dto.OrderItemCreateRequestDto;
+import com.tourhub.order.dto.ReserveResponseDto;
 import com.tourhub.order.model.Order;
 import com.tourhub.order.model.OrderItem;
 import com.tourhub.order.model.OrderStatus;
@@ -19,7 +20,7 @@ import com.tourhub.tour.model.TourSchedule;
 import com.tourhub.order.repository.OrderRepository;
 import com.tourhub.tour.repository.TourScheduleRepository;
 import com.tourhub.user.model.User;
-import com.tourhub.common.result.ApiError;
+import com.tourhub.common.idempotency.IdempotencyService;
 import com.tourhub.common.result.Result;
 
 import lombok.RequiredArgsConstructor;
@@ -28,8 +29,70 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReservationService {
 
+        public static final String IDEMPOTENCY_SCOPE = "CHECKOUT_RESERVE";
+
         private final OrderService orderService;
         private final OrderRepository orderRepo;
+        private final IdempotencyService idempotencyService;
+        private final ReservationExpiryTimer reservationExpiryTimer;
+
+        /**
+         * Reserve with an optional Idempotency-Key. A retry with the same key
+         * and request returns the original response without building another
+         * order, so client timeouts no longer leave duplicate seat holds.
+         */
+        @Transactional
+        public Result<ReserveResponseDto> reserve(
+                        OrderCreateRequestDto dto,
+                        User user,
+                        String idempotencyKey) {
+
+                if (idempotencyKey != null) {
+                        Result<Void> validKey = idempotencyService.validateKey(idempotencyKey);
+                        if (validKey.isFail()) {
+                                return Result.fail(validKey.getErrorOrThrow());
+                        }
+
+                        Optional<Result<ReserveResponseDto>> replayed = replay(dto, user, idempotencyKey);
+                        if (replayed.isPresent()) {
+                                return replayed.get();
+                        }
+                }
+
+                Result<Order> reserved = reserve(dto, user);
+
+                if (reserved.isFail()) {
+                        return Result.fail(reserved.getErrorOrThrow());
+                }
+
+                Order order = reserved.get();
+                ReserveResponseDto response = new ReserveResponseDto(
+                                order.getId(),
+                                order.getExpiresAt(),
+                                order.getStatus(),
+                                order.getReservationToken().toString());
+
+                if (idempotencyKey != null) {
+                        idempotencyService.remember(
+                                        IDEMPOTENCY_SCOPE, idempotencyKey, fingerprint(dto, user), response);
+                }
+
+                return Result.ok(response);
+        }
+
+        // Stored response for this key, if a previous attempt committed one.
+        public Optional<Result<ReserveResponseDto>> replay(
+                        OrderCreateRequestDto dto,
+                        User user,
+                        String idempotencyKey) {
+
+                if (idempotencyKey == null) {
+                        return Optional.empty();
+                }
+
+                return idempotencyService.replay(
+                                IDEMPOTENCY_SCOPE, idempotencyKey, fingerprint(dto, user), ReserveResponseDto.class);
+        }
 
         @Transactional
         public Result<Order> reserve(OrderCreateRequestDto dto, User user) {
@@ -37,7 +100,7 @@ public class ReservationService {
                 Instant expiresAt = Instant.now().plus(15, ChronoUnit.MINUTES);
                 UUID token = UUID.randomUUID();
 
-                // Reuse the central builder.
+                // Reuse the central builder; it also runs the admission gate.
                 Result<Order> built = orderService.buildOrder(
                                 dto,
                                 user,
@@ -54,7 +117,16 @@ public class ReservationService {
                 order.setExpiresAt(expiresAt);
                 order.setReservationToken(token);
 
-                return Result.ok(orderRepo.save(order));
+                Order saved = orderRepo.save(order);
+
+                // A rolled-back reservation only costs the timer one empty pass.
+                reservationExpiryTimer.schedule(expiresAt);
+
+                return Result.ok(saved);
+        }
+
+        private String fingerprint(OrderCreateRequestDto dto, User user) {
+                return idempotencyService.fingerprint(user != null ? user.getId() : "guest", dto);
         }
 }
 
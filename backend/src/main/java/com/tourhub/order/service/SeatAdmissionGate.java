@@ -0,0 +1,220 @@
+package com.tourhub.order.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tourhub.tour.event.ScheduleCapacityChangedEvent;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * In-process admission gate in front of checkout (reserve and direct orders).
+ * Each schedule gets a counter seeded from its available seats in the
+ * database; a request only reaches the seat updates (and the schedule row
+ * lock) if the counters of all its schedules can cover it.
+ *
+ * The counters are an estimate, never the source of truth: the conditional
+ * seat updates still decide. Seats released on another instance, or capacity
+ * raised by an edit, are invisible to this instance's counter, so a counter
+ * that comes up short is re-read from the database (a plain read, no lock)
+ * before the request is rejected. Local releases and capacity edits drop the
+ * counter right away through reconcile() and ScheduleCapacityChangedEvent.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatAdmissionGate {
+
+    private final TourScheduleRepository tourScheduleRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.checkout.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.checkout.admission.maximum-size:10000}")
+    private long maximumSize;
+
+    // How long a counter is trusted before it is re-read from the database.
+    @Value("${app.checkout.admission.ttl:30s}")
+    private Duration ttl;
+
+    private Cache<Long, AtomicInteger> remainingSeats;
+
+    private Counter admittedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        remainingSeats = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        /* ---- Micrometer ---- */
+
+        admittedCounter = Counter.builder("checkout_admission_admitted_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+
+        rejectedCounter = Counter.builder("checkout_admission_rejected_total")
+                .tag("application", "store_manager")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes the requested seats from the counters of all schedules, or none
+     * of them. Inside a transaction the seats are handed back automatically
+     * if it does not commit; callers release explicitly when they give up on
+     * a reservation without rolling back.
+     */
+    public Admission tryAdmit(Map<Long, Integer> seatsBySchedule) {
+        if (!enabled) {
+            return new Admission(true, List.of());
+        }
+
+        List<Held> held = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(seatsBySchedule).entrySet()) {
+            AtomicInteger remaining = remainingSeats.get(entry.getKey(), this::seed);
+
+            // Unknown schedule: let the order builder report it.
+            if (remaining == null) {
+                continue;
+            }
+
+            if (!tryTake(remaining, entry.getValue())) {
+                // Short counters are re-read before rejecting; admissions still
+                // holding the old counter give their seats back to it harmlessly.
+                remaining = seed(entry.getKey());
+
+                if (remaining == null) {
+                    remainingSeats.invalidate(entry.getKey());
+                    continue;
+                }
+
+                remainingSeats.put(entry.getKey(), remaining);
+
+                if (!tryTake(remaining, entry.getValue())) {
+                    held.forEach(Held::giveBack);
+                    rejectedCounter.increment();
+                    return new Admission(false, List.of());
+                }
+            }
+
+            held.add(new Held(remaining, entry.getValue()));
+        }
+
+        Admission admission = new Admission(true, held);
+        admittedCounter.increment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        admission.release();
+                    }
+                }
+            });
+        }
+
+        return admission;
+    }
+
+    /**
+     * Drops the counters of schedules whose seats were given back in the
+     * database (expiry, cancellation). Runs after commit so the re-seed sees
+     * the released seats.
+     */
+    public void reconcile(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = List.copyOf(scheduleIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remainingSeats.invalidateAll(ids);
+                }
+            });
+        } else {
+            remainingSeats.invalidateAll(ids);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCapacityChanged(ScheduleCapacityChangedEvent event) {
+        remainingSeats.invalidate(event.scheduleId());
+    }
+
+    private AtomicInteger seed(Long scheduleId) {
+        Integer available = tourScheduleRepository.findAvailableSeats(scheduleId);
+
+        return available == null ? null : new AtomicInteger(Math.max(0, available));
+    }
+
+    private static boolean tryTake(AtomicInteger remaining, int seats) {
+        int current;
+
+        do {
+            current = remaining.get();
+
+            if (current < seats) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - seats));
+
+        return true;
+    }
+
+    private record Held(AtomicInteger remaining, int seats) {
+
+        void giveBack() {
+            remaining.addAndGet(seats);
+        }
+    }
+
+    public static final class Admission {
+
+        private final boolean admitted;
+        private final List<Held> held;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Admission(boolean admitted, List<Held> held) {
+            this.admitted = admitted;
+            this.held = held;
+        }
+
+        public boolean isAdmitted() {
+            return admitted;
+        }
+
+        // Idempotent: an explicit release followed by a rollback gives back once.
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                held.forEach(Held::giveBack);
+            }
+        }
+    }
+}
@@ -32,7 +32,13 @@ public class PaymentController {
                         @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
                         @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
                         @RequestParam(name = "page", defaultValue = "0") int page,
-                        @RequestParam(name = "size", defaultValue = "10") int size) {
+                        @RequestParam(name = "size", defaultValue = "10") int size,
+                        @RequestParam(name = "cursor", required = false) String cursor) {
+                if (cursor != null) {
+                        return ResultResponseMapper.toResponse(
+                                        paymentService.searchPaymentLinesForAdminByCursor(query, status, from, to, cursor, size));
+                }
+
                 return ResultResponseMapper.toResponse(
                                 paymentService.searchPaymentLinesForAdmin(query, status, from, to, page, size));
         }
@@ -2,6 +2,8 @@ package com.tourhub.payment.service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -10,10 +12,12 @@ import org.springframework.transaction.annotation.Transactional;
 import com.tourhub.order.model.Order;
 import com.tourhub.order.model.OrderItem;
 import com.tourhub.order.model.OrderStatus;
+import com.tourhub.order.service.SeatAdmissionGate;
 import com.tourhub.payment.model.Payment;
 import com.tourhub.payment.model.PaymentStatus;
-import com.tourhub.tour.model.TourSchedule;
 import com.tourhub.payment.repository.PaymentRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentExpirationService {
 
     private final PaymentRepository paymentRepository;
+    private final TourScheduleRepository tourScheduleRepository;
+    private final TourCacheInvalidator tourCacheInvalidator;
+    private final SeatAdmissionGate seatAdmissionGate;
 
     @Transactional
     public void expirePendingPayments() {
@@ -32,6 +39,8 @@ public class PaymentExpirationService {
 
         List<Payment> expiredPayments = paymentRepository.findExpiredPendingPayments(cutoff);
 
+        List<OrderItem> released = new ArrayList<>();
+
         for (Payment payment : expiredPayments) {
 
             if (payment.getStatus() != PaymentStatus.PENDING) {
@@ -49,12 +58,7 @@ public class PaymentExpirationService {
             if (order.getStatus() != OrderStatus.PAID) {
 
                 for (OrderItem item : order.getOrderItems()) {
-
-                    TourSchedule schedule = item.getSchedule();
-
-                    // release reserved participants
-                    schedule.releaseReserved(item.getParticipants());
-
+                    released.add(item);
                     item.setStatus(OrderStatus.FAILED);
                 }
 
@@ -62,5 +66,20 @@ public class PaymentExpirationService {
             }
         }
 
+        // Release the reserved seats in ascending schedule id order; each update
+        // holds its row lock until commit, so a fixed order avoids deadlocks with
+        // checkouts and other expiry runs.
+        released.sort(Comparator.comparing(item -> item.getSchedule().getId()));
+
+        for (OrderItem item : released) {
+            tourScheduleRepository.releaseReservedSeats(
+                    item.getSchedule().getId(), item.getParticipants());
+            tourCacheInvalidator.evictSchedules(item.getTour().getId());
+        }
+
+        seatAdmissionGate.reconcile(released.stream()
+                .map(item -> item.getSchedule().getId())
+                .distinct()
+                .toList());
     }
 }
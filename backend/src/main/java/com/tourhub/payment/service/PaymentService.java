@@ -18,7 +18,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -36,16 +35,19 @@ import com.tourhub.payment.model.Payment;
 import com.tourhub.payment.model.PaymentLine;
 import com.tourhub.payment.model.PaymentLineType;
 import com.tourhub.payment.model.PaymentStatus;
-import com.tourhub.tour.model.Tour;
 import com.tourhub.tour.model.TourSchedule;
 import com.tourhub.payment.repository.PaymentLineRepository;
 import com.tourhub.payment.repository.PaymentRepository;
+import com.tourhub.order.repository.OrderRepository;
 import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
 import com.tourhub.security.CustomUserDetails;
 import com.tourhub.security.annotations.AccessLevel;
 import com.tourhub.security.annotations.ShopAccess;
 import com.tourhub.security.annotations.ShopIdSource;
 import com.tourhub.common.email.EmailService;
+import com.tourhub.common.pagination.CursorPage;
+import com.tourhub.common.pagination.KeysetCursor;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
 import com.tourhub.order.service.BookingAccessTokenService;
@@ -61,11 +63,13 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final PaymentLineRepository paymentLineRepository;
+    private final OrderRepository orderRepository;
     private final PaymentMapper paymentMapper;
     private final PaymentLineMapper paymentLineMapper;
     private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
     private final EmailService emailService;
     private final TourScheduleRepository tourScheduleRepository;
+    private final TourCacheInvalidator tourCacheInvalidator;
     private final BookingAccessTokenService bookingAccessTokenService;
 
     @Transactional(readOnly = true)
@@ -77,37 +81,59 @@ public class PaymentService {
             int page,
             int size) {
 
-        if (from != null && to != null && from.isAfter(to)) {
-            return Result.fail(ApiError.badRequest("'From' date must be before or equal to 'To' date"));
+        Result<Specification<PaymentLine>> filter = buildAdminPaymentLineFilter(query, status, from, to);
+
+        if (filter.isFail()) {
+            return Result.fail(filter.getErrorOrThrow());
         }
 
-        String normalizedQuery = normalizeQuery(query);
-        PaymentStatus normalizedStatus = normalizeStatus(status);
+        Pageable pageable = PageRequest.of(page, size, KeysetCursor.NEWEST_FIRST);
 
-        if (status != null && !status.isBlank() && normalizedStatus == null) {
-            return Result.fail(ApiError.badRequest("Invalid payment status"));
+        Page<PaymentLine> result = paymentLineRepository.findAll(filter.get(), pageable);
+
+        return Result.ok(result.map(paymentLineMapper::toDto));
+    }
+
+    // Keyset variant: continues from a cursor, never counts.
+    @Transactional(readOnly = true)
+    public Result<CursorPage<PaymentLineResponseDto>> searchPaymentLinesForAdminByCursor(
+            String query,
+            String status,
+            LocalDate from,
+            LocalDate to,
+            String cursor,
+            int size) {
+
+        if (size < 1) {
+            return Result.fail(ApiError.badRequest("Page size must be positive"));
         }
 
-        Instant createdFrom = from != null
-                ? from.atStartOfDay(ZoneId.of("UTC")).toInstant()
-                : null;
+        Result<Specification<PaymentLine>> filter = buildAdminPaymentLineFilter(query, status, from, to);
 
-        Instant createdTo = to != null
-                ? to.plusDays(1).atStartOfDay(ZoneId.of("UTC")).toInstant()
-                : null;
+        if (filter.isFail()) {
+            return Result.fail(filter.getErrorOrThrow());
+        }
 
-        Pageable pageable = PageRequest.of(
-                page,
-                size,
-                Sort.by(
-                        Sort.Order.desc("createdAt"),
-                        Sort.Order.desc("id")));
+        Specification<PaymentLine> spec = filter.get();
 
-        Page<PaymentLine> result = paymentLineRepository.findAll(
-                buildAdminPaymentLineSpecification(normalizedQuery, normalizedStatus, createdFrom, createdTo),
-                pageable);
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                spec = spec.and(KeysetCursor.decode(cursor).after());
+            } catch (IllegalArgumentException ex) {
+                return Result.fail(ApiError.badRequest("Invalid cursor"));
+            }
+        }
 
-        return Result.ok(result.map(paymentLineMapper::toDto));
+        List<PaymentLine> rows = paymentLineRepository.findBy(spec, q -> q
+                .sortBy(KeysetCursor.NEWEST_FIRST)
+                .limit(size + 1)
+                .all());
+
+        return Result.ok(CursorPage.of(
+                rows,
+                size,
+                line -> new KeysetCursor(line.getCreatedAt(), line.getId()),
+                paymentLineMapper::toDto));
     }
 
     @Transactional
@@ -167,32 +193,40 @@ public class PaymentService {
             return Result.ok();
         }
 
+        Order order = payment.getOrder();
+
+        // Conditional, so a reservation that expired (and released its seats)
+        // while the customer paid is not confirmed over the top of that.
+        if (orderRepository.transitionStatus(
+                order.getId(), OrderStatus.FINALIZED, OrderStatus.PAID) == 0) {
+            log.error("Payment succeeded for an order that is no longer awaiting payment: orderId={}, paymentId={}",
+                    order.getId(), paymentId);
+            return Result.fail(ApiError.badRequest("Order is no longer awaiting payment"));
+        }
+
         payment.setStatus(PaymentStatus.SUCCEEDED);
 
         for (PaymentLine line : payment.getPaymentLines()) {
             line.setStatus(PaymentStatus.SUCCEEDED);
         }
 
-        Order order = payment.getOrder();
-
-        for (OrderItem item : order.getOrderItems()) {
-            TourSchedule schedule = tourScheduleRepository
-                    .findByIdForUpdate(item.getSchedule().getId())
-                    .orElseThrow(() -> new IllegalStateException("Schedule not found"));
-
-            int qty = item.getParticipants();
+        // Ascending schedule id order, like checkout: each update holds its row
+        // lock until commit.
+        List<OrderItem> byScheduleId = order.getOrderItems().stream()
+                .sorted(Comparator.comparing(item -> item.getSchedule().getId()))
+                .toList();
 
-            schedule.releaseReserved(qty);
+        for (OrderItem item : byScheduleId) {
+            boolean privateTour = "PRIVATE".equalsIgnoreCase(item.getTour().getType());
 
-            int newBooked = (schedule.getBookedParticipants() == null ? 0 : schedule.getBookedParticipants()) + qty;
-            schedule.setBookedParticipants(newBooked);
+            int updated = tourScheduleRepository.confirmReservedSeats(
+                    item.getSchedule().getId(), item.getParticipants(), privateTour);
 
-            Tour tour = item.getTour();
-            if ("PRIVATE".equalsIgnoreCase(tour.getType()) || newBooked >= schedule.getMaxParticipants()) {
-                schedule.setStatus("BOOKED");
-            } else {
-                schedule.setStatus("ACTIVE");
+            if (updated == 0) {
+                throw new IllegalStateException("Schedule not found");
             }
+
+            tourCacheInvalidator.evictSchedules(item.getTour().getId());
         }
 
         order.setStatus(OrderStatus.PAID);
@@ -360,6 +394,35 @@ public class PaymentService {
         }
     }
 
+    private Result<Specification<PaymentLine>> buildAdminPaymentLineFilter(
+            String query,
+            String status,
+            LocalDate from,
+            LocalDate to) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return Result.fail(ApiError.badRequest("'From' date must be before or equal to 'To' date"));
+        }
+
+        String normalizedQuery = normalizeQuery(query);
+        PaymentStatus normalizedStatus = normalizeStatus(status);
+
+        if (status != null && !status.isBlank() && normalizedStatus == null) {
+            return Result.fail(ApiError.badRequest("Invalid payment status"));
+        }
+
+        Instant createdFrom = from != null
+                ? from.atStartOfDay(ZoneId.of("UTC")).toInstant()
+                : null;
+
+        Instant createdTo = to != null
+                ? to.plusDays(1).atStartOfDay(ZoneId.of("UTC")).toInstant()
+                : null;
+
+        return Result.ok(buildAdminPaymentLineSpecification(
+                normalizedQuery, normalizedStatus, createdFrom, createdTo));
+    }
+
     private Specification<PaymentLine> buildAdminPaymentLineSpecification(
             String query,
             PaymentStatus status,
@@ -0,0 +1,10 @@
+package com.tourhub.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The verified contents of an access token, read once per token.
+ */
+public record AccessTokenClaims(UUID userId, String email, String role, Instant expiresAt) {
+}
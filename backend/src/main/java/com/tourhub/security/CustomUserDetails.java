@@ -1,5 +1,6 @@
 package com.tourhub.security;
 
+import com.tourhub.user.model.Role;
 import com.tourhub.user.model.User;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,19 @@ public class CustomUserDetails implements UserDetails {
 
     private final User user;
 
+    /**
+     * A principal from verified token claims and the cached role, without
+     * loading the user. The wrapped User only carries id, email and role.
+     */
+    public static CustomUserDetails fromClaims(AccessTokenClaims claims, Role role) {
+        User user = new User();
+        user.setId(claims.userId());
+        user.setEmail(claims.email());
+        user.setRole(role);
+
+        return new CustomUserDetails(user);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
@@ -4,8 +4,11 @@ import com.tourhub.user.model.User;
 import com.tourhub.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -16,6 +19,11 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserAccessCache userAccessCache;
+
+    // When disabled, every authenticated request loads the user again.
+    @Value("${app.security.claims-principal.enabled:true}")
+    private boolean claimsPrincipalEnabled;
 
     @Override
     public UserDetails loadUserByUsername(String email) {
@@ -30,5 +38,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return new CustomUserDetails(user);
     }
-}
 
+    /**
+     * The principal for a verified access token: built from its claims and
+     * the cached role/status, or empty for removed and deleted users.
+     */
+    public Optional<UserDetails> loadUserFromClaims(AccessTokenClaims claims) {
+        if (!claimsPrincipalEnabled) {
+            return Optional.of(loadUserById(claims.userId()));
+        }
+
+        return userAccessCache.get(claims.userId())
+                .filter(UserAccessCache.UserAccess::isActive)
+                .map(access -> CustomUserDetails.fromClaims(claims, access.role()));
+    }
+}
@@ -1,12 +1,10 @@
 package com.tourhub.security;
 
 import java.io.IOException;
-import java.util.UUID;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -45,20 +43,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractToken(request);
 
-        if (token != null && jwtService.validateAccessToken(token)) {
-            UUID userId = jwtService.getUserId(token);
-
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+        AccessTokenClaims claims = token != null ? jwtService.verifyAccessToken(token).orElse(null) : null;
 
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            userDetailsService.loadUserFromClaims(claims).ifPresent(userDetails -> {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
                         userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            });
         }
 
         filterChain.doFilter(request, response);
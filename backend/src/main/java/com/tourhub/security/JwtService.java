@@ -9,12 +9,18 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tourhub.security.crypto.TokenHasher;
 import com.tourhub.user.model.User;
 
 @Service
@@ -29,11 +35,29 @@ public class JwtService {
     @Value("${jwt.refresh-expiration-ms:604800000}") // default 7 days
     private long refreshExpirationMs;
 
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
     private Key key;
 
+    // Immutable and thread-safe once built.
+    private JwtParser parser;
+
+    // SHA-256 of recently verified access tokens -> their claims. Entries
+    // expire with the token, so a hit never outlives what a full parse would
+    // accept; hashing keeps raw bearer tokens out of the heap.
+    private Cache<String, AccessTokenClaims> verifiedAccessTokens;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     // ---------------------------------------------------
@@ -41,11 +65,7 @@ public class JwtService {
     // ---------------------------------------------------
 
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     // ✔️ REQUIRED (kept exactly as you asked)
@@ -89,19 +109,43 @@ public class JwtService {
                 .compact();
     }
 
-    public boolean validateAccessToken(String token) {
+    /**
+     * Verifies the signature, type and expiry of an access token with a single
+     * parse, or answers from the cache of recently verified tokens.
+     */
+    public Optional<AccessTokenClaims> verifyAccessToken(String token) {
+        String tokenHash = TokenHasher.sha256Hex(token);
+
+        AccessTokenClaims cached = verifiedAccessTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached);
+        }
+
         try {
             Claims claims = parseClaims(token);
 
-            if (!"access".equals(claims.get("typ", String.class)))
-                return false;
+            if (!"access".equals(claims.get("typ", String.class))
+                    || !claims.getExpiration().after(new Date())) {
+                return Optional.empty();
+            }
 
-            return claims.getExpiration().after(new Date());
+            AccessTokenClaims verified = new AccessTokenClaims(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant());
+
+            verifiedAccessTokens.put(tokenHash, verified);
+            return Optional.of(verified);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateAccessToken(String token) {
+        return verifyAccessToken(token).isPresent();
+    }
+
     // ---------------------------------------------------
     // Refresh Token
     // ---------------------------------------------------
@@ -135,5 +179,24 @@ public class JwtService {
     public Instant getRefreshExpiryInstant() {
         return Instant.ofEpochMilli(System.currentTimeMillis() + refreshExpirationMs);
     }
-}
 
+    private static final class UntilTokenExpiry implements Expiry<String, AccessTokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, AccessTokenClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AccessTokenClaims value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AccessTokenClaims value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
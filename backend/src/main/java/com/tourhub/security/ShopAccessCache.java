@@ -0,0 +1,100 @@
+package com.tourhub.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tourhub.security.annotations.ShopIdSource;
+import com.tourhub.shop.model.ShopUserRole;
+import com.tourhub.shop.model.ShopUserStatus;
+import com.tourhub.shop.repository.ShopUserRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Caches behind ShopAccessAspect, which runs on every @ShopAccess call and
+ * often several times per request.
+ *
+ * Owners: tour/schedule/session/item -> shop id. Ownership does not change
+ * once created, so entries only age out.
+ *
+ * Memberships: (shop, user) -> role and status. Only existing memberships are
+ * cached, so adding a member needs no eviction; ShopUserService invalidates
+ * an entry after committing a status or role change.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShopAccessCache {
+
+    private final ShopUserRepository shopUserRepository;
+
+    @Value("${app.security.shop-access-cache.maximum-size:20000}")
+    private long maximumSize;
+
+    @Value("${app.security.shop-access-cache.membership-ttl:1m}")
+    private Duration membershipTtl;
+
+    @Value("${app.security.shop-access-cache.owner-ttl:30m}")
+    private Duration ownerTtl;
+
+    private Cache<MembershipKey, Membership> memberships;
+    private Cache<OwnerKey, Long> owners;
+
+    @PostConstruct
+    void init() {
+        memberships = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(membershipTtl)
+                .build();
+
+        owners = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ownerTtl)
+                .build();
+    }
+
+    public record Membership(ShopUserRole role, ShopUserStatus status) {
+    }
+
+    private record MembershipKey(Long shopId, UUID userId) {
+    }
+
+    private record OwnerKey(ShopIdSource source, Long id) {
+    }
+
+    public Optional<Membership> membership(Long shopId, UUID userId) {
+        return Optional.ofNullable(memberships.get(new MembershipKey(shopId, userId),
+                key -> shopUserRepository.findByShopIdAndUserId(shopId, userId)
+                        .map(shopUser -> new Membership(shopUser.getRole(), shopUser.getStatus()))
+                        .orElse(null)));
+    }
+
+    // Returns null, uncached, when the entity does not exist.
+    public Long shopIdOf(ShopIdSource source, Long id, Function<Long, Long> loader) {
+        return owners.get(new OwnerKey(source, id), key -> loader.apply(id));
+    }
+
+    public void invalidateMembership(Long shopId, UUID userId) {
+        MembershipKey key = new MembershipKey(shopId, userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberships.invalidate(key);
+                }
+            });
+        } else {
+            memberships.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tourhub.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tourhub.user.model.Role;
+import com.tourhub.user.model.UserStatus;
+import com.tourhub.user.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Current role and status per user, for principals built from token claims.
+ * UserService invalidates an entry after committing a role or status change,
+ * so bans and demotions apply on the next request; the short TTL bounds how
+ * stale another instance can be.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccessCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.security.user-access-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${app.security.user-access-cache.ttl:30s}")
+    private Duration ttl;
+
+    private Cache<UUID, UserAccess> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public record UserAccess(Role role, UserStatus status) {
+
+        public boolean isActive() {
+            return status == UserStatus.ACTIVE;
+        }
+    }
+
+    // Empty when the user no longer exists.
+    public Optional<UserAccess> get(UUID userId) {
+        return Optional.ofNullable(entries.get(userId, id -> userRepository.findById(id)
+                .map(user -> new UserAccess(user.getRole(), user.getStatus()))
+                .orElse(null)));
+    }
+
+    public void invalidate(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.invalidate(userId);
+                }
+            });
+        } else {
+            entries.invalidate(userId);
+        }
+    }
+}
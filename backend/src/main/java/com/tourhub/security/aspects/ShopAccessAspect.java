@@ -16,13 +16,11 @@ import com.tourhub.tour.dto.TourScheduleCreateDto;
 import com.tourhub.order.repository.OrderItemRepository;
 import com.tourhub.tour.repository.TourRepository;
 import com.tourhub.security.CustomUserDetails;
+import com.tourhub.security.ShopAccessCache;
 import com.tourhub.security.annotations.AccessLevel;
 import com.tourhub.security.annotations.ShopAccess;
 import com.tourhub.security.annotations.ShopIdSource;
-import com.tourhub.shop.model.ShopUser;
-import com.tourhub.shop.model.ShopUserRole;
 import com.tourhub.shop.model.ShopUserStatus;
-import com.tourhub.shop.repository.ShopUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,7 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ShopAccessAspect {
 
-    private final ShopUserRepository shopUserRepository;
+    private final ShopAccessCache shopAccessCache;
     private final TourRepository tourRepository;
     private final OrderItemRepository orderItemRepository;
 
@@ -54,15 +52,15 @@ public class ShopAccessAspect {
             return;
         }
 
-        ShopUser membership = shopUserRepository
-                .findByShopIdAndUserId(shopId, user.getId())
+        ShopAccessCache.Membership membership = shopAccessCache
+                .membership(shopId, user.getId())
                 .orElseThrow(() -> new AccessDeniedException("Not a shop member"));
 
-        if (membership.getStatus() != ShopUserStatus.ACTIVE) {
+        if (membership.status() != ShopUserStatus.ACTIVE) {
             throw new AccessDeniedException("Membership not approved");
         }
 
-        if (membership.getRole().getLevel() < shopAccess.value().getLevel()) {
+        if (membership.role().getLevel() < shopAccess.value().getLevel()) {
             throw new AccessDeniedException("Insufficient access level");
         }
     }
@@ -84,21 +82,21 @@ public class ShopAccessAspect {
 
             case TOUR_ID -> {
                 if (args[0] instanceof Long tourId) {
-                    yield tourRepository.findShopIdByTourId(tourId);
+                    yield shopAccessCache.shopIdOf(source, tourId, tourRepository::findShopIdByTourId);
                 }
                 yield null;
             }
 
             case SESSION_ID -> {
                 if (args[0] instanceof Long sessionId) {
-                    yield tourRepository.findShopIdBySessionId(sessionId);
+                    yield shopAccessCache.shopIdOf(source, sessionId, tourRepository::findShopIdBySessionId);
                 }
                 yield null;
             }
 
             case ITEM_ID -> {
                 if (args[0] instanceof Long itemId) {
-                    yield orderItemRepository.findShopIdByItemId(itemId);
+                    yield shopAccessCache.shopIdOf(source, itemId, orderItemRepository::findShopIdByItemId);
                 }
                 yield null;
             }
@@ -106,14 +104,15 @@ public class ShopAccessAspect {
             case DTO_TOUR_ID -> {
                 for (Object arg : args) {
                     if (arg instanceof TourScheduleCreateDto dto && dto.getTourId() != null) {
-                        yield tourRepository.findShopIdByTourId(dto.getTourId());
+                        yield shopAccessCache.shopIdOf(ShopIdSource.TOUR_ID, dto.getTourId(),
+                                tourRepository::findShopIdByTourId);
                     }
                 }
                 yield null;
             }
             case SCHEDULE_ID -> {
                 if (args[0] instanceof Long scheduleId) {
-                    yield tourRepository.findShopIdByScheduleId(scheduleId);
+                    yield shopAccessCache.shopIdOf(source, scheduleId, tourRepository::findShopIdByScheduleId);
                 }
                 yield null;
             }
@@ -1,8 +1,7 @@
 package com.tourhub.security.filters;
 
 import com.tourhub.security.CustomUserDetails;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
@@ -18,25 +17,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GlobalRateLimitFilter extends OncePerRequestFilter {
 
-    private final MeterRegistry meterRegistry;
-
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
-
-    /* -------------------- Bucket factory -------------------- */
+    private static final Duration PERIOD = Duration.ofMinutes(1);
 
-    private Bucket newBucket(long capacityPerMinute) {
-        return Bucket.builder()
-                .addLimit(Bandwidth.simple(capacityPerMinute, Duration.ofMinutes(1)))
-                .build();
-    }
+    private final MeterRegistry meterRegistry;
+    private final RateLimitStore rateLimitStore;
 
     /* -------------------- Micrometer counters -------------------- */
 
@@ -74,29 +64,20 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
             key = "IP_" + request.getRemoteAddr();
         }
 
-        Bucket bucket;
+        boolean allowed;
 
         if (path.equals("/auth/login")) {
             scope = "login";
-            bucket = cache.computeIfAbsent(
-                    "LOGIN_" + key,
-                    k -> newBucket(5)
-            );
+            allowed = rateLimitStore.tryConsume("LOGIN_" + key, 5, PERIOD);
         } else if (path.equals("/auth/register")) {
             scope = "register";
-            bucket = cache.computeIfAbsent(
-                    "REGISTER_" + key,
-                    k -> newBucket(3)
-            );
+            allowed = rateLimitStore.tryConsume("REGISTER_" + key, 3, PERIOD);
         } else {
             scope = "default";
-            bucket = cache.computeIfAbsent(
-                    "DEFAULT_" + key,
-                    k -> newBucket(50)
-            );
+            allowed = rateLimitStore.tryConsume("DEFAULT_" + key, 50, PERIOD);
         }
 
-        if (bucket.tryConsume(1)) {
+        if (allowed) {
             allowedCounter(scope).increment();
             filterChain.doFilter(request, response);
         } else {
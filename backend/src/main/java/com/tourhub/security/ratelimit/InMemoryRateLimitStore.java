@@ -0,0 +1,73 @@
+package com.tourhub.security.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Per-instance buckets in a bounded Caffeine cache. A bucket left alone for
+ * one period is full again, so dropping it after idle-timeout loses nothing;
+ * maximum-size caps memory when a scanner cycles through addresses, at the
+ * cost of resetting the least recently used buckets early.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${app.rate-limit.idle-timeout:5m}")
+    private Duration idleTimeout;
+
+    private Cache<String, Bucket> buckets;
+
+    @PostConstruct
+    void init() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+
+        Gauge.builder("rate_limit_buckets", buckets, Cache::estimatedSize)
+                .tag("application", "store_manager")
+                .tag("store", "memory")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("rate_limit_bucket_evictions_total", buckets,
+                cache -> cache.stats().evictionCount())
+                .tag("application", "store_manager")
+                .tag("store", "memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryConsume(String key, long capacity, Duration period) {
+        return buckets.get(key, k -> Bucket.builder()
+                .addLimit(Bandwidth.simple(capacity, period))
+                .build())
+                .tryConsume(1);
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
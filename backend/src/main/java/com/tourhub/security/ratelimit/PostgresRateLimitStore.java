@@ -0,0 +1,88 @@
+package com.tourhub.security.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Buckets shared by every replica through the rate_limit_buckets table, so a
+ * client cannot multiply its limit by spreading requests across instances.
+ * Costs one upsert per request.
+ *
+ * What happens when the database is unavailable is a deployment choice,
+ * app.rate-limit.fail-open: by default the request is let through so the
+ * limiter cannot take the API down with it; set it to false to reject
+ * instead when an unenforced limit is the bigger risk.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresRateLimitStore implements RateLimitStore {
+
+    private final RateLimitBucketRepository repository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.idle-timeout:5m}")
+    private Duration idleTimeout;
+
+    @Value("${app.rate-limit.fail-open:true}")
+    private boolean failOpen;
+
+    private final AtomicLong storedBuckets = new AtomicLong();
+    private Counter evictions;
+    private Counter failures;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("rate_limit_buckets", storedBuckets, AtomicLong::get)
+                .tag("application", "store_manager")
+                .tag("store", "postgres")
+                .register(meterRegistry);
+
+        evictions = Counter.builder("rate_limit_bucket_evictions_total")
+                .tag("application", "store_manager")
+                .tag("store", "postgres")
+                .register(meterRegistry);
+
+        failures = Counter.builder("rate_limit_store_failures_total")
+                .tag("application", "store_manager")
+                .tag("store", "postgres")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryConsume(String key, long capacity, Duration period) {
+        try {
+            return repository.tryConsume(key, capacity, period.toMillis() / 1000.0) > 0;
+        } catch (DataAccessException e) {
+            failures.increment();
+            log.warn("Rate limit store unavailable, {} request: {}",
+                    failOpen ? "allowing" : "rejecting", e.getMessage());
+            return failOpen;
+        }
+    }
+
+    // Idle buckets are full again, so deleting them only frees space.
+    @Scheduled(fixedDelayString = "${app.rate-limit.purge-interval-ms:300000}")
+    @Transactional
+    public void purgeIdle() {
+        int deleted = repository.deleteRefilledBefore(Instant.now().minus(idleTimeout));
+        evictions.increment(deleted);
+        storedBuckets.set(repository.count());
+    }
+}
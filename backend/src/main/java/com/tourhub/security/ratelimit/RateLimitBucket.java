@@ -0,0 +1,26 @@
+package com.tourhub.security.ratelimit;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Shared bucket state for PostgresRateLimitStore; written only by its upsert.
+@Entity
+@Table(name = "rate_limit_buckets")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitBucket {
+
+    @Id
+    @Column(name = "bucket_key", length = 200)
+    private String bucketKey;
+
+    @Column(nullable = false)
+    private double tokens;
+
+    @Column(name = "refilled_at", nullable = false)
+    private Instant refilledAt;
+}
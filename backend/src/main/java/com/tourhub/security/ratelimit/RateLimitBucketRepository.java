@@ -0,0 +1,42 @@
+package com.tourhub.security.ratelimit;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    /*
+     * Refills the bucket for the time since its last update and takes one
+     * token, in a single statement so concurrent replicas cannot both spend
+     * the last token. Returns 0, leaving the row untouched, when the bucket
+     * is empty. Commits on its own so the token is spent even if the caller
+     * fails later.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+            INSERT INTO rate_limit_buckets AS b (bucket_key, tokens, refilled_at)
+            VALUES (:key, :capacity - 1, now())
+            ON CONFLICT (bucket_key) DO UPDATE
+            SET tokens = LEAST(:capacity,
+                        b.tokens + EXTRACT(EPOCH FROM now() - b.refilled_at) * :capacity / :periodSeconds) - 1,
+                refilled_at = now()
+            WHERE LEAST(:capacity,
+                        b.tokens + EXTRACT(EPOCH FROM now() - b.refilled_at) * :capacity / :periodSeconds) >= 1
+            """, nativeQuery = true)
+    int tryConsume(@Param("key") String key,
+            @Param("capacity") double capacity,
+            @Param("periodSeconds") double periodSeconds);
+
+    @Modifying
+    @Query("DELETE FROM RateLimitBucket b WHERE b.refilledAt < :cutoff")
+    int deleteRefilledBefore(@Param("cutoff") Instant cutoff);
+}
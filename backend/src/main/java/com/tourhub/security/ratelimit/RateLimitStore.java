@@ -0,0 +1,15 @@
+package com.tourhub.security.ratelimit;
+
+import java.time.Duration;
+
+/*
+ * Token buckets behind GlobalRateLimitFilter. Each key gets `capacity`
+ * tokens that refill evenly over `period`.
+ *
+ * app.rate-limit.store selects the implementation: "memory" (default) keeps
+ * buckets per instance, "postgres" shares them across replicas.
+ */
+public interface RateLimitStore {
+
+    boolean tryConsume(String key, long capacity, Duration period);
+}
@@ -8,8 +8,10 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
@@ -38,8 +40,50 @@ public interface TourSessionRepository extends JpaRepository<TourSession, Long>,
     @EntityGraph(attributePaths = { "schedule", "orderItems", "manager" })
     List<TourSession> findByManagerId(UUID managerId);
 
-    @EntityGraph(attributePaths = { "schedule" })
-    List<TourSession> findByStatusIn(List<SessionStatus> statuses);
+    /*
+     * Session cleanup: past sessions nobody booked. Keyset-paged on id so a
+     * run walks the table once in bounded chunks.
+     */
+
+    @Query("""
+                SELECT s.id
+                FROM TourSession s
+                JOIN s.schedule sch
+                WHERE s.status IN :statuses
+                AND s.id > :afterId
+                AND sch.bookedParticipants = 0
+                AND (sch.date < :today OR (sch.date = :today AND (sch.time IS NULL OR sch.time < :now)))
+                ORDER BY s.id
+            """)
+    List<Long> findExpirableSessionIds(
+            @Param("statuses") List<SessionStatus> statuses,
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            @Param("afterId") long afterId,
+            Limit limit);
+
+    // Bypasses Envers; callers record the change with writeAuditRows.
+    @Modifying
+    @Query("""
+                UPDATE TourSession s SET s.status = :status
+                WHERE s.id IN :ids AND s.status IN :statuses
+            """)
+    int updateStatusByIds(
+            @Param("ids") List<Long> ids,
+            @Param("statuses") List<SessionStatus> fromStatuses,
+            @Param("status") SessionStatus status);
+
+    // Copies the sessions with the given status into tour_session_aud under
+    // an AuditRevisions revision, skipping ids the bulk update left alone.
+    @Modifying
+    @Query(value = """
+                INSERT INTO tour_session_aud (id, rev, revtype, schedule_id, manager_id, status,
+                        cancelled_by, cancelled_at)
+                SELECT s.id, :rev, 1, s.schedule_id, s.manager_id, s.status, s.cancelled_by, s.cancelled_at
+                FROM tour_session s
+                WHERE s.id IN (:ids) AND s.status = :status
+            """, nativeQuery = true)
+    int writeAuditRows(@Param("ids") List<Long> ids, @Param("status") String status, @Param("rev") int rev);
 
     @Query("""
                 SELECT COUNT(ts)
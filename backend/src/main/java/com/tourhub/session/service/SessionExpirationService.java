@@ -0,0 +1,56 @@
+package com.tourhub.session.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tourhub.common.audit.AuditRevisions;
+import com.tourhub.session.model.SessionStatus;
+import com.tourhub.session.repository.TourSessionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SessionExpirationService {
+
+    static final List<SessionStatus> EXPIRABLE_STATUSES = List.copyOf(EnumSet.of(
+            SessionStatus.PENDING,
+            SessionStatus.PLANNED,
+            SessionStatus.PAID,
+            SessionStatus.PARTIALLY_PAID,
+            SessionStatus.CONFIRMED,
+            SessionStatus.PARTIALLY_CANCELLED,
+            SessionStatus.REFUNDED,
+            SessionStatus.PARTIALLY_REFUNDED));
+
+    private final TourSessionRepository sessionRepository;
+    private final AuditRevisions auditRevisions;
+
+    /**
+     * Expires the next chunk of past sessions without booked participants,
+     * starting after {@code afterId}, in its own transaction. The status
+     * change is written to tour_session_aud under one revision per chunk.
+     *
+     * @return the ids examined in this chunk, ascending; fewer than
+     *         {@code limit} means the scan is complete
+     */
+    @Transactional
+    public List<Long> expireBatch(LocalDate today, LocalTime now, long afterId, int limit) {
+
+        List<Long> ids = sessionRepository.findExpirableSessionIds(
+                EXPIRABLE_STATUSES, today, now, afterId, Limit.of(limit));
+
+        if (!ids.isEmpty()) {
+            sessionRepository.updateStatusByIds(ids, EXPIRABLE_STATUSES, SessionStatus.EXPIRED);
+            sessionRepository.writeAuditRows(ids, SessionStatus.EXPIRED.name(), auditRevisions.current());
+        }
+
+        return ids;
+    }
+}
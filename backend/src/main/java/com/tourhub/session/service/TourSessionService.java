@@ -9,6 +9,8 @@ import com.tourhub.security.CurrentUserService;
 import com.tourhub.security.annotations.AccessLevel;
 import com.tourhub.security.annotations.ShopAccess;
 import com.tourhub.security.annotations.ShopIdSource;
+import com.tourhub.common.pagination.CursorPage;
+import com.tourhub.common.pagination.KeysetCursor;
 import com.tourhub.common.result.ApiError;
 
 import lombok.RequiredArgsConstructor;
@@ -50,24 +52,60 @@ public class TourSessionService {
             int page,
             int size) {
 
-        if (from != null && to != null && from.isAfter(to)) {
-            return Result.fail(ApiError.badRequest("'From' date must be before or equal to 'To' date"));
+        Result<Specification<TourSession>> filter = buildAdminSessionFilter(query, status, from, to);
+
+        if (filter.isFail()) {
+            return Result.fail(filter.getErrorOrThrow());
         }
 
-        String normalizedQuery = normalizeQuery(query);
-        SessionStatus normalizedStatus = normalizeStatus(status);
+        // Same order as the cursor variant, so both modes page identically.
+        Pageable pageable = PageRequest.of(page, size, KeysetCursor.HIGHEST_ID_FIRST);
 
-        if (status != null && !status.isBlank() && normalizedStatus == null) {
-            return Result.fail(ApiError.badRequest("Invalid session status"));
+        Page<TourSession> result = tourSessionRepository.findAll(filter.get(), pageable);
+
+        return Result.ok(result.map(mapper::toDto));
+    }
+
+    // Keyset variant: sessions carry no creation time, so the cursor is the id.
+    @Transactional(readOnly = true)
+    public Result<CursorPage<TourSessionDetailsDto>> searchSessionsForAdminByCursor(
+            String query,
+            String status,
+            LocalDate from,
+            LocalDate to,
+            String cursor,
+            int size) {
+
+        if (size < 1) {
+            return Result.fail(ApiError.badRequest("Page size must be positive"));
         }
 
-        Pageable pageable = PageRequest.of(page, size);
+        Result<Specification<TourSession>> filter = buildAdminSessionFilter(query, status, from, to);
 
-        Page<TourSession> result = tourSessionRepository.findAll(
-                buildAdminSessionSpecification(normalizedQuery, normalizedStatus, from, to),
-                pageable);
+        if (filter.isFail()) {
+            return Result.fail(filter.getErrorOrThrow());
+        }
 
-        return Result.ok(result.map(mapper::toDto));
+        Specification<TourSession> spec = filter.get();
+
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                spec = spec.and(KeysetCursor.decode(cursor).after());
+            } catch (IllegalArgumentException ex) {
+                return Result.fail(ApiError.badRequest("Invalid cursor"));
+            }
+        }
+
+        List<TourSession> rows = tourSessionRepository.findBy(spec, q -> q
+                .sortBy(KeysetCursor.HIGHEST_ID_FIRST)
+                .limit(size + 1)
+                .all());
+
+        return Result.ok(CursorPage.of(
+                rows,
+                size,
+                session -> new KeysetCursor(null, session.getId()),
+                mapper::toDto));
     }
 
     @Transactional(readOnly = true)
@@ -228,6 +266,26 @@ public class TourSessionService {
         }
     }
 
+    private Result<Specification<TourSession>> buildAdminSessionFilter(
+            String query,
+            String status,
+            LocalDate from,
+            LocalDate to) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return Result.fail(ApiError.badRequest("'From' date must be before or equal to 'To' date"));
+        }
+
+        String normalizedQuery = normalizeQuery(query);
+        SessionStatus normalizedStatus = normalizeStatus(status);
+
+        if (status != null && !status.isBlank() && normalizedStatus == null) {
+            return Result.fail(ApiError.badRequest("Invalid session status"));
+        }
+
+        return Result.ok(buildAdminSessionSpecification(normalizedQuery, normalizedStatus, from, to));
+    }
+
     private Specification<TourSession> buildAdminSessionSpecification(
             String query,
             SessionStatus status,
@@ -2,6 +2,7 @@ package com.tourhub.shop.service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -29,6 +30,8 @@ import com.tourhub.shop.model.ShopUserRole;
 import com.tourhub.shop.model.ShopUserStatus;
 import com.tourhub.shop.repository.ShopRepository;
 import com.tourhub.shop.repository.ShopUserRepository;
+import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
 import com.tourhub.user.model.User;
 import com.tourhub.user.repository.UserRepository;
 
@@ -43,6 +46,8 @@ public class ShopService {
         private final ShopUserRepository shopUserRepository;
         private final UserRepository userRepository;
         private final CurrentUserService currentUserService;
+        private final TourRepository tourRepository;
+        private final TourCacheInvalidator tourCacheInvalidator;
 
         @Transactional
         public Result<ShopDto> createShop(ShopCreateRequestDto dto, UUID currentUserId) {
@@ -102,9 +107,18 @@ public class ShopService {
                         return Result.fail(ApiError.notFound("Shop not found"));
                 }
 
+                String previousName = shop.getName();
+
                 shopMapper.updateShopFromDto(dto, shop);
                 Shop saved = shopRepository.save(shop);
 
+                // Tour responses carry the shop name: new validators for
+                // conditional GETs, and no stale cached DTOs.
+                if (!Objects.equals(previousName, saved.getName())) {
+                        tourRepository.touchByShopId(shopId, Instant.now());
+                        tourCacheInvalidator.evictAllTours();
+                }
+
                 return Result.ok(shopMapper.toDto(saved));
         }
 
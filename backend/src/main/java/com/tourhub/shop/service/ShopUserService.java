@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tourhub.security.CurrentUserService;
+import com.tourhub.security.ShopAccessCache;
 import com.tourhub.security.annotations.AccessLevel;
 import com.tourhub.security.annotations.ShopAccess;
 import com.tourhub.security.annotations.ShopIdSource;
@@ -38,6 +39,7 @@ public class ShopUserService {
         private final ShopRepository shopRepository;
         private final ShopUserMapper shopUserMapper;
         private final CurrentUserService currentUserService;
+        private final ShopAccessCache shopAccessCache;
 
         @Transactional(readOnly = true)
         @ShopAccess(value = AccessLevel.MANAGER, source = ShopIdSource.SHOP_ID)
@@ -117,6 +119,7 @@ public class ShopUserService {
                                 .build();
 
                 shopUserRepository.save(shopUser);
+                shopAccessCache.invalidateMembership(shopId, userIdToAdd);
                 return Result.ok(true);
         }
 
@@ -146,6 +149,7 @@ public class ShopUserService {
 
                 shopUser.setStatus(newStatus);
                 shopUserRepository.save(shopUser);
+                shopAccessCache.invalidateMembership(shopId, userId);
                 return Result.ok(true);
         }
 
@@ -172,6 +176,7 @@ public class ShopUserService {
 
                 shopUser.setRole(newRole);
                 shopUserRepository.save(shopUser);
+                shopAccessCache.invalidateMembership(shopId, userId);
                 return Result.ok(true);
         }
 
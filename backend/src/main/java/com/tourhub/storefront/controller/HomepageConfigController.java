@@ -1,5 +1,7 @@
 package com.tourhub.storefront.controller;
 
+import java.time.Instant;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,8 +9,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.tourhub.common.result.ResultResponseMapper;
+import com.tourhub.common.web.ConditionalGet;
 import com.tourhub.storefront.dto.UpdateHomepageConfigRequestDto;
 import com.tourhub.storefront.service.HomepageConfigService;
 
@@ -23,8 +27,15 @@ public class HomepageConfigController {
     private final HomepageConfigService homepageConfigService;
 
     @GetMapping
-    public ResponseEntity<?> getHomepageConfig() {
-        return ResultResponseMapper.toResponse(homepageConfigService.getHomepageConfig());
+    public ResponseEntity<?> getHomepageConfig(WebRequest request) {
+        Instant version = homepageConfigService.getHomepageConfigVersion();
+        String etag = ConditionalGet.etag("homepage", 0, version);
+
+        if (ConditionalGet.notModified(request, etag, version)) {
+            return null;
+        }
+
+        return ConditionalGet.toResponse(homepageConfigService.getHomepageConfig(), etag, version);
     }
 
     @PutMapping
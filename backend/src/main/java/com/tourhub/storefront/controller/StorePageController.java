@@ -1,5 +1,7 @@
 package com.tourhub.storefront.controller;
 
+import java.time.Instant;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,8 +10,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.tourhub.common.result.ResultResponseMapper;
+import com.tourhub.common.web.ConditionalGet;
 import com.tourhub.storefront.dto.UpdateStorePageRequestDto;
 import com.tourhub.storefront.service.StorePageService;
 
@@ -24,13 +28,27 @@ public class StorePageController {
     private final StorePageService storePageService;
 
     @GetMapping
-    public ResponseEntity<?> getStorePages() {
-        return ResultResponseMapper.toResponse(storePageService.getPages());
+    public ResponseEntity<?> getStorePages(WebRequest request) {
+        Instant version = storePageService.getPagesVersion();
+        String etag = ConditionalGet.etag("pages", 0, version);
+
+        if (ConditionalGet.notModified(request, etag, version)) {
+            return null;
+        }
+
+        return ConditionalGet.toResponse(storePageService.getPages(), etag, version);
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<?> getStorePage(@PathVariable String slug) {
-        return ResultResponseMapper.toResponse(storePageService.getPage(slug));
+    public ResponseEntity<?> getStorePage(@PathVariable String slug, WebRequest request) {
+        Instant version = storePageService.getPageVersion(slug);
+        String etag = ConditionalGet.etag("page", slug.toLowerCase(), version);
+
+        if (ConditionalGet.notModified(request, etag, version)) {
+            return null;
+        }
+
+        return ConditionalGet.toResponse(storePageService.getPage(slug), etag, version);
     }
 
     @PutMapping("/{slug}")
@@ -1,5 +1,7 @@
 package com.tourhub.storefront.controller;
 
+import java.time.Instant;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,8 +9,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.tourhub.common.result.ResultResponseMapper;
+import com.tourhub.common.web.ConditionalGet;
 import com.tourhub.storefront.dto.UpdateStorefrontSettingsRequestDto;
 import com.tourhub.storefront.service.StorefrontSettingsService;
 
@@ -23,8 +27,15 @@ public class StorefrontSettingsController {
     private final StorefrontSettingsService storefrontSettingsService;
 
     @GetMapping
-    public ResponseEntity<?> getStorefrontSettings() {
-        return ResultResponseMapper.toResponse(storefrontSettingsService.getSettings());
+    public ResponseEntity<?> getStorefrontSettings(WebRequest request) {
+        Instant version = storefrontSettingsService.getSettingsVersion();
+        String etag = ConditionalGet.etag("storefront", 0, version);
+
+        if (ConditionalGet.notModified(request, etag, version)) {
+            return null;
+        }
+
+        return ConditionalGet.toResponse(storefrontSettingsService.getSettings(), etag, version);
     }
 
     @PutMapping
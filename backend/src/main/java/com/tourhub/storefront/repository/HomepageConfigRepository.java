@@ -1,8 +1,10 @@
 package com.tourhub.storefront.repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.tourhub.storefront.model.HomepageConfig;
@@ -11,4 +13,7 @@ import com.tourhub.storefront.model.HomepageConfig;
 public interface HomepageConfigRepository extends JpaRepository<HomepageConfig, Long> {
 
     Optional<HomepageConfig> findTopByOrderByIdAsc();
+
+    @Query("SELECT MAX(c.updatedAt) FROM HomepageConfig c")
+    Instant findLastUpdatedAt();
 }
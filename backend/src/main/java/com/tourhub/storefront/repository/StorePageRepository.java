@@ -1,9 +1,12 @@
 package com.tourhub.storefront.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.tourhub.storefront.model.StorePage;
@@ -14,4 +17,10 @@ public interface StorePageRepository extends JpaRepository<StorePage, Long> {
     Optional<StorePage> findBySlug(String slug);
 
     List<StorePage> findAllByOrderByIdAsc();
+
+    @Query("SELECT MAX(p.updatedAt) FROM StorePage p")
+    Instant findLastUpdatedAt();
+
+    @Query("SELECT p.updatedAt FROM StorePage p WHERE p.slug = :slug")
+    Instant findUpdatedAtBySlug(@Param("slug") String slug);
 }
@@ -1,8 +1,10 @@
 package com.tourhub.storefront.repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.tourhub.storefront.model.StorefrontSettings;
@@ -11,4 +13,7 @@ import com.tourhub.storefront.model.StorefrontSettings;
 public interface StorefrontSettingsRepository extends JpaRepository<StorefrontSettings, Long> {
 
     Optional<StorefrontSettings> findTopByOrderByIdAsc();
+
+    @Query("SELECT MAX(c.updatedAt) FROM StorefrontSettings c")
+    Instant findLastUpdatedAt();
 }
@@ -1,5 +1,6 @@
 package com.tourhub.storefront.service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -74,6 +75,12 @@ public class HomepageConfigService {
         return Result.ok(config);
     }
 
+    // Null while the defaults are served.
+    @Transactional(readOnly = true)
+    public Instant getHomepageConfigVersion() {
+        return homepageConfigRepository.findLastUpdatedAt();
+    }
+
     @Transactional
     public Result<HomepageConfigDto> updateHomepageConfig(UpdateHomepageConfigRequestDto dto) {
         Result<Void> validationResult = validate(dto);
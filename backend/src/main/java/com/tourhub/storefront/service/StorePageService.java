@@ -1,5 +1,6 @@
 package com.tourhub.storefront.service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -70,6 +71,22 @@ public class StorePageService {
         return Result.ok(toDto(page));
     }
 
+    // Defaults are constant, so the newest stored page versions the list.
+    @Transactional(readOnly = true)
+    public Instant getPagesVersion() {
+        return storePageRepository.findLastUpdatedAt();
+    }
+
+    // Null for unknown slugs and pages still served from defaults.
+    @Transactional(readOnly = true)
+    public Instant getPageVersion(String slugValue) {
+        try {
+            return storePageRepository.findUpdatedAtBySlug(StorePageSlug.fromValue(slugValue).getValue());
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
     @Transactional
     public Result<StorePageDto> updatePage(String slugValue, UpdateStorePageRequestDto dto) {
         StorePageSlug slug;
@@ -1,11 +1,14 @@
 package com.tourhub.storefront.service;
 
+import java.time.Instant;
 import java.util.Locale;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tourhub.common.result.Result;
+import com.tourhub.config.CacheConfig;
 import com.tourhub.storefront.dto.StorefrontSettingsDto;
 import com.tourhub.storefront.dto.UpdateStorefrontSettingsRequestDto;
 import com.tourhub.storefront.model.StorefrontBasePreset;
@@ -40,7 +43,14 @@ public class StorefrontSettingsService {
         return Result.ok(settings);
     }
 
+    // Null while the defaults are served.
+    @Transactional(readOnly = true)
+    public Instant getSettingsVersion() {
+        return storefrontSettingsRepository.findLastUpdatedAt();
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMAIL_BRANDING, allEntries = true)
     public Result<StorefrontSettingsDto> updateSettings(UpdateStorefrontSettingsRequestDto dto) {
         StorefrontSettings settings = storefrontSettingsRepository.findTopByOrderByIdAsc()
                 .orElseGet(() -> StorefrontSettings.builder()
@@ -1,6 +1,7 @@
 package com.tourhub.tour.controller;
 
 import java.security.Principal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,12 +18,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.tourhub.tour.dto.TourCreateDto;
 import com.tourhub.tour.dto.TourResponseDto;
 import com.tourhub.tour.dto.TourUpdateDto;
 import com.tourhub.tour.service.TourService;
 import com.tourhub.common.result.ResultResponseMapper;
+import com.tourhub.common.web.ConditionalGet;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -94,9 +97,16 @@ public class TourController {
         }
 
         @GetMapping("/{id}")
-        public ResponseEntity<?> getTourById(@PathVariable("id") Long id) {
-                return ResultResponseMapper.toResponse(
-                                tourService.getTourById(id));
+        public ResponseEntity<?> getTourById(@PathVariable("id") Long id, WebRequest request) {
+                Instant version = tourService.getTourVersion(id);
+                String etag = ConditionalGet.etag("tour", id, version);
+
+                if (ConditionalGet.notModified(request, etag, version)) {
+                        return null;
+                }
+
+                return ConditionalGet.toResponse(
+                                tourService.getTourById(id), etag, version);
         }
 
         @PatchMapping("/{id}/status")
@@ -1,5 +1,7 @@
 package com.tourhub.tour.dto;
 
+import java.time.Instant;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -9,4 +11,5 @@ public class TourImageResponseDto {
     private Long id;
     private String imageUrl;
     private Integer position;
-}
\ No newline at end of file
+    private Instant uploadedAt;
+}
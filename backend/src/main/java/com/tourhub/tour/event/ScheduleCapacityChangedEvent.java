@@ -0,0 +1,4 @@
+package com.tourhub.tour.event;
+
+public record ScheduleCapacityChangedEvent(Long scheduleId) {
+}
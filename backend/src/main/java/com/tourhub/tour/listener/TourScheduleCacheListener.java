@@ -0,0 +1,34 @@
+package com.tourhub.tour.listener;
+
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.service.TourCacheInvalidator;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Seat counts on a schedule are written from orders, payments, cancellations
+ * and the expiry jobs, so the cached schedule list is evicted from the entity
+ * itself rather than from each of those services. The cache manager is
+ * transaction-aware: the eviction happens after commit.
+ *
+ * Bulk JPQL/native updates bypass entity callbacks and evict through
+ * TourCacheInvalidator instead.
+ */
+@RequiredArgsConstructor
+public class TourScheduleCacheListener {
+
+    private final TourCacheInvalidator cacheInvalidator;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onScheduleChanged(TourSchedule schedule) {
+
+        if (schedule.getTour() != null) {
+            cacheInvalidator.evictSchedules(schedule.getTour().getId());
+        }
+    }
+}
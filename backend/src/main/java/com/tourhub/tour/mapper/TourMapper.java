@@ -28,6 +28,7 @@ public interface TourMapper {
     @Mapping(target = "madeBy", ignore = true)
     @Mapping(target = "shop", ignore = true)
     @Mapping(target = "images", ignore = true) // Images are added separately.
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "categories", source = "categories")
     @Mapping(target = "language", source = "language")
     Tour toEntity(TourCreateDto dto);
@@ -37,6 +38,7 @@ public interface TourMapper {
     @Mapping(target = "shop", ignore = true) // Keep the original shop.
     @Mapping(target = "madeBy", ignore = true)
     @Mapping(target = "images", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "categories", source = "categories")
     @Mapping(target = "language", source = "language")
     void updateTourFromDto(TourCreateDto dto, @MappingTarget Tour tour);
@@ -45,6 +47,7 @@ public interface TourMapper {
     @Mapping(target = "shop", ignore = true)
     @Mapping(target = "madeBy", ignore = true)
     @Mapping(target = "images", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "categories", source = "categories")
     @Mapping(target = "language", source = "language")
     void updateTourFromDto(TourUpdateDto dto, @MappingTarget Tour tour);
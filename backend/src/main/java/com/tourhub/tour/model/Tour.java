@@ -1,6 +1,7 @@
 package com.tourhub.tour.model;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 
@@ -19,6 +20,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +30,9 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.tourhub.shop.model.Shop;
@@ -53,12 +58,14 @@ public class Tour {
     private int participants;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
     @CollectionTable(name = "tour_categories", joinColumns = @JoinColumn(name = "tour_id"))
     @Enumerated(EnumType.STRING) // Store the enum as text instead of a number.
     @Column(name = "category")
     private Set<TourCategory> categories;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
     @CollectionTable(name = "tour_languages", joinColumns = @JoinColumn(name = "tour_id"))
     @Enumerated(EnumType.STRING) // Store the enum as text instead of a number.
     @Column(name = "language")
@@ -71,6 +78,7 @@ public class Tour {
     private String meetingPoint;
 
     @OneToMany(mappedBy = "tour", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<TourImage> images = new ArrayList<>();
 
@@ -79,4 +87,15 @@ public class Tour {
     @JsonIgnoreProperties({ "tours" })
     private Shop shop;
 
+    // Version stamp for ETags, not business data.
+    @NotAudited
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void stampUpdatedAt() {
+        updatedAt = Instant.now();
+    }
+
 }
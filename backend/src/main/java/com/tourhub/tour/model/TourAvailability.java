@@ -0,0 +1,34 @@
+package com.tourhub.tour.model;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Next bookable date per tour, read from the tour_availability materialized
+ * view (see V49). Refreshed by ScheduleCleanupJob, so it may lag seat changes
+ * by up to the refresh interval; read-only from the application side.
+ */
+@Entity
+@Immutable
+@Table(name = "tour_availability")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourAvailability {
+
+    @Id
+    @Column(name = "tour_id")
+    private Long tourId;
+
+    @Column(name = "next_available_date")
+    private LocalDate nextAvailableDate;
+}
@@ -3,12 +3,16 @@ package com.tourhub.tour.model;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
+import com.tourhub.tour.listener.TourScheduleCacheListener;
 import com.tourhub.tour.model.Tour;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -27,6 +31,10 @@ import lombok.Builder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Audited
+// Seat counters are changed by conditional UPDATEs in TourScheduleRepository;
+// entity updates only write the columns they actually changed.
+@DynamicUpdate
+@EntityListeners(TourScheduleCacheListener.class)
 public class TourSchedule {
 
     @Id
@@ -46,6 +54,9 @@ public class TourSchedule {
     @Column(nullable = false)
     private int maxParticipants;
 
+    // Seat counters only move through bulk updates, which Envers never sees;
+    // the order audit trail is the record of bookings.
+    @NotAudited
     @Column(nullable = false)
     @Builder.Default
     private Integer bookedParticipants = 0;
@@ -53,6 +64,7 @@ public class TourSchedule {
     @Column(nullable = false)
     private String status; // ACTIVE, EXPIRED, BOOKED
 
+    @NotAudited
     @Column(name = "reserved_participants", nullable = false)
     @Builder.Default
     private Integer reservedParticipants = 0;
@@ -63,11 +75,4 @@ public class TourSchedule {
         return maxParticipants - booked - reserved;
     }
 
-    public void releaseReserved(int amount) {
-        if (amount < 0)
-            throw new IllegalArgumentException();
-
-        reservedParticipants = Math.max(0, reservedParticipants - amount);
-    }
-
 }
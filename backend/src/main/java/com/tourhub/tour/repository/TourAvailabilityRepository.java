@@ -0,0 +1,26 @@
+package com.tourhub.tour.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.tourhub.tour.model.TourAvailability;
+
+@Repository
+public interface TourAvailabilityRepository extends JpaRepository<TourAvailability, Long> {
+
+    // CONCURRENTLY keeps the old contents readable while the new ones are
+    // computed; it needs the unique index on tour_id.
+    @Modifying
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY tour_availability", nativeQuery = true)
+    void refresh();
+
+    /*
+     * Every replica runs the refresh job, but one refresh per interval is
+     * enough. The lock is transaction-scoped, so it is released when the
+     * caller's refresh commits; replicas that do not get it skip the run.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('tour_availability_refresh'))", nativeQuery = true)
+    boolean tryLockRefresh();
+}
@@ -1,25 +1,46 @@
 package com.tourhub.tour.repository;
 
-import java.time.LocalDate;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.tourhub.tour.model.Tour;
-import com.tourhub.tour.model.TourCategory;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TourRepository extends JpaRepository<Tour, Long> {
+public interface TourRepository extends JpaRepository<Tour, Long>, JpaSpecificationExecutor<Tour> {
 
+    /*
+     * Catalog listings: the shop is joined here and the collections are
+     * batch-loaded (@BatchSize on Tour), so mapping a page of tours costs a
+     * fixed number of queries instead of several per tour.
+     */
+
+    @EntityGraph(attributePaths = { "shop" })
     List<Tour> findByShopId(Long shopId);
 
+    @Override
+    @EntityGraph(attributePaths = { "shop" })
+    List<Tour> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = { "shop" })
+    List<Tour> findAllById(Iterable<Long> ids);
+
+    @Override
+    @EntityGraph(attributePaths = { "shop" })
+    Page<Tour> findAll(Specification<Tour> spec, Pageable pageable);
+
     @Query("""
             SELECT t FROM Tour t
             WHERE (:status IS NULL OR t.status = :status)
@@ -28,238 +49,25 @@ public interface TourRepository extends JpaRepository<Tour, Long> {
                 LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%'))
               )
             """)
+    @EntityGraph(attributePaths = { "shop" })
     Page<Tour> searchAdminTours(
             @Param("query") String query,
             @Param("status") String status,
             Pageable pageable);
 
+    // Backs BookableTourPool; one row per (tour, category), category may be null.
     @Query("""
-            SELECT DISTINCT t FROM Tour t
-            LEFT JOIN t.language l
-            WHERE EXISTS (
-                SELECT 1 FROM TourSchedule ts
-                WHERE ts.tour = t
-                AND ts.date >= CURRENT_DATE
-                AND ts.bookedParticipants < ts.maxParticipants
-            )
-            AND (:type IS NULL OR t.type IN :type)
-            AND (:language IS NULL OR l IN :language)
-            AND t.status = 'ACTIVE'
-            AND (
-              COALESCE(:keyword, '') = '' OR (
-                LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                LOWER(t.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-              )
-            )
-            """)
-    Page<Tour> searchBase(
-            @Param("type") List<String> type,
-            @Param("language") List<String> language,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
-    @Query("""
-                      SELECT DISTINCT t FROM Tour t
-                      LEFT JOIN t.categories c
-                      LEFT JOIN t.language l
-                      WHERE (:type IS NULL OR t.type IN :type)
-                      AND EXISTS (
-              SELECT 1 FROM TourSchedule ts
-              WHERE ts.tour = t
-              AND ts.date >= CURRENT_DATE
-              AND ts.bookedParticipants < ts.maxParticipants
-            )
-                        AND (:language IS NULL OR l IN :language)
-                        AND (:categories IS NULL OR c IN :categories)
-                        AND t.status = 'ACTIVE'
-                        AND (
-                          COALESCE(:keyword, '') = '' OR (
-                            LOWER(t.title) LIKE LOWER(CONCAT('%', COALESCE(:keyword, ''), '%')) OR
-                            LOWER(t.description) LIKE LOWER(CONCAT('%', COALESCE(:keyword, ''), '%')) OR
-                            LOWER(t.location) LIKE LOWER(CONCAT('%', COALESCE(:keyword, ''), '%'))
-                          )
-                        )
-                  """)
-    Page<Tour> searchByFiltersWithoutDate(
-            @Param("categories") List<TourCategory> categories,
-            @Param("type") List<String> type,
-            @Param("language") List<String> language,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
-    @Query("""
-            SELECT DISTINCT t FROM Tour t
-            LEFT JOIN t.language l
-            WHERE EXISTS (
-                SELECT 1 FROM TourSchedule ts
-                WHERE ts.tour = t
-                AND ts.date = :date
-                AND ts.bookedParticipants < ts.maxParticipants
-            )
-            AND (:type IS NULL OR t.type IN :type)
-            AND (:language IS NULL OR l IN :language)
-            AND t.status = 'ACTIVE'
-            AND (
-              COALESCE(:keyword, '') = '' OR (
-                LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                LOWER(t.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-              )
-            )
-            """)
-    Page<Tour> searchWithDate(
-            @Param("type") List<String> type,
-            @Param("language") List<String> language,
-            @Param("keyword") String keyword,
-            @Param("date") LocalDate date,
-            Pageable pageable);
-
-    @Query("""
-                      SELECT DISTINCT t FROM Tour t
-                      LEFT JOIN t.language l
-                      WHERE (:type IS NULL OR t.type IN :type)
-                      AND EXISTS (
-              SELECT 1 FROM TourSchedule ts
-              WHERE ts.tour = t
-              AND ts.date >= CURRENT_DATE
-              AND ts.bookedParticipants < ts.maxParticipants
-            )
-                        AND (:language IS NULL OR l IN :language)
-                        AND t.status = 'ACTIVE'
-                        AND (
-                          COALESCE(:keyword, '') = '' OR (
-                            LOWER(t.title) LIKE LOWER(CONCAT('%', COALESCE(:keyword, ''), '%')) OR
-                            LOWER(t.description) LIKE LOWER(CONCAT('%', COALESCE(:keyword, ''), '%')) OR
-                            LOWER(t.location) LIKE LOWER(CONCAT('%', COALESCE(:keyword, ''), '%'))
-                          )
-                        )
-                  """)
-    Page<Tour> searchWithoutCategory(
-            @Param("type") List<String> type,
-            @Param("language") List<String> language,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
-    @Query("""
-                      SELECT DISTINCT t FROM Tour t
-                      LEFT JOIN t.language l
-
-                      WHERE EXISTS (
-                          SELECT 1 FROM t.categories c
-                          WHERE c IN :categories
-                      )
-                          AND EXISTS (
-              SELECT 1 FROM TourSchedule ts
-              WHERE ts.tour = t
-              AND ts.date >= CURRENT_DATE
-              AND ts.bookedParticipants < ts.maxParticipants
-            )
-                        AND (:type IS NULL OR t.type IN :type)
-                        AND (:language IS NULL OR l IN :language)
-                        AND t.status = 'ACTIVE'
-                        AND (
-                          COALESCE(:keyword, '') = '' OR (
-                            LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                            LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                            LOWER(t.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                          )
-                        )
-                  """)
-    Page<Tour> searchWithCategory(
-            @Param("categories") List<TourCategory> categories,
-            @Param("type") List<String> type,
-            @Param("language") List<String> language,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
-    @Query("""
-            SELECT DISTINCT t FROM Tour t
-            LEFT JOIN t.language l
-            WHERE EXISTS (
-                SELECT 1 FROM t.categories c
-                WHERE c IN :categories
-            )
-            AND EXISTS (
-                SELECT 1 FROM TourSchedule ts
-                WHERE ts.tour = t
-                AND ts.date = :date
-                AND ts.bookedParticipants < ts.maxParticipants
-            )
-            AND (:type IS NULL OR t.type IN :type)
-            AND (:language IS NULL OR l IN :language)
-            AND t.status = 'ACTIVE'
-            AND (
-              COALESCE(:keyword, '') = '' OR (
-                LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-                LOWER(t.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
-              )
-            )
-            """)
-    Page<Tour> searchWithCategoryAndDate(
-            @Param("categories") List<TourCategory> categories,
-            @Param("type") List<String> type,
-            @Param("language") List<String> language,
-            @Param("keyword") String keyword,
-            @Param("date") LocalDate date,
-            Pageable pageable);
-
-    @Query(value = """
-            SELECT t.*
-            FROM tours t
-            WHERE t.status = 'ACTIVE'
-            AND EXISTS (
-                SELECT 1
-                FROM tour_schedules ts
-                WHERE ts.tour_id = t.id
-                AND ts.date >= CURRENT_DATE
-                AND ts.booked_participants < ts.max_participants
-            )
-            ORDER BY random()
-            LIMIT :count
-            """, nativeQuery = true)
-    List<Tour> findRandomActiveTours(@Param("count") int count);
-
-    @Query(value = """
-            SELECT t.*
-            FROM tours t
-            WHERE t.status = 'ACTIVE'
-            AND EXISTS (
-                SELECT 1
-                FROM tour_schedules ts
-                WHERE ts.tour_id = t.id
-                AND ts.date >= CURRENT_DATE
-                AND ts.booked_participants < ts.max_participants
-            )
-            ORDER BY random()
-            LIMIT 1
-            """, nativeQuery = true)
-    Optional<Tour> findRandomActiveTour();
-
-    @Query(value = """
-            SELECT t.*
-            FROM tours t
+            SELECT t.id, c
+            FROM Tour t
+            LEFT JOIN t.categories c
             WHERE t.status = 'ACTIVE'
             AND EXISTS (
-                SELECT 1
-                FROM tour_categories tc
-                WHERE tc.tour_id = t.id
-                AND tc.category = :category
-            )
-            AND EXISTS (
-                SELECT 1
-                FROM tour_schedules ts
-                WHERE ts.tour_id = t.id
-                AND ts.date >= CURRENT_DATE
-                AND ts.booked_participants < ts.max_participants
+                SELECT 1 FROM TourAvailability a
+                WHERE a.tourId = t.id
+                AND a.nextAvailableDate >= CURRENT_DATE
             )
-            ORDER BY random()
-            LIMIT :count
-            """, nativeQuery = true)
-    List<Tour> findRandomActiveToursByCategory(
-            @Param("category") String category,
-            @Param("count") int count);
+            """)
+    List<Object[]> findBookableTourIdsWithCategories();
 
     @Query("""
             SELECT COUNT(DISTINCT t.id)
@@ -269,6 +77,19 @@ public interface TourRepository extends JpaRepository<Tour, Long> {
             """)
     long countDistinctActiveToursByIds(@Param("tourIds") List<Long> tourIds);
 
+    @Query("SELECT t.updatedAt FROM Tour t WHERE t.id = :tourId")
+    Instant findUpdatedAtById(@Param("tourId") Long tourId);
+
+    // For changes that do not dirty the Tour row itself (images).
+    @Modifying
+    @Query("UPDATE Tour t SET t.updatedAt = :now WHERE t.id = :tourId")
+    int touch(@Param("tourId") Long tourId, @Param("now") Instant now);
+
+    // For shop changes that show up in every tour of the shop (name).
+    @Modifying
+    @Query("UPDATE Tour t SET t.updatedAt = :now WHERE t.shop.id = :shopId")
+    int touchByShopId(@Param("shopId") Long shopId, @Param("now") Instant now);
+
     @Query("""
                 SELECT t.shop.id
                 FROM Tour t
@@ -2,6 +2,7 @@ package com.tourhub.tour.repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +12,6 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.tourhub.tour.model.TourSchedule;
 
@@ -20,9 +20,11 @@ import jakarta.persistence.LockModeType;
 @Repository
 public interface TourScheduleRepository extends JpaRepository<TourSchedule, Long> {
 
+    // Use ScheduleLockService rather than calling this directly: it sorts and
+    // de-duplicates the ids so every caller locks rows in the same order.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select s from TourSchedule s where s.id = :id")
-    Optional<TourSchedule> findByIdForUpdate(@Param("id") Long id);
+    @Query("select s from TourSchedule s where s.id in :ids order by s.id")
+    List<TourSchedule> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 
     List<TourSchedule> findByTourId(Long tourId);
 
@@ -30,18 +32,166 @@ public interface TourScheduleRepository extends JpaRepository<TourSchedule, Long
 
     List<TourSchedule> findByTourIdAndStatus(Long tourId, String status);
 
+    /*
+     * Seat counters. Each call is a single conditional UPDATE, so the check and
+     * the write cannot race and no SELECT ... FOR UPDATE is needed beforehand.
+     * The row lock the UPDATE takes is still held until the surrounding
+     * transaction commits, so callers keep the work after it short and touch
+     * schedules in ascending id order. A return value of 0 means the seats were
+     * not available.
+     *
+     * These are bulk updates and bypass Envers: seat counts and the automatic
+     * ACTIVE/BOOKED flip produce no tour_schedules_aud rows. That is intended;
+     * the audited orders and order_items already record who took which seats.
+     */
+
+    // Seeds SeatAdmissionGate; null when the schedule does not exist.
+    @Query("""
+                SELECT s.maxParticipants - s.bookedParticipants - s.reservedParticipants
+                FROM TourSchedule s
+                WHERE s.id = :id
+            """)
+    Integer findAvailableSeats(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+                UPDATE TourSchedule s
+                SET s.reservedParticipants = s.reservedParticipants + :seats
+                WHERE s.id = :id
+                AND s.maxParticipants - s.bookedParticipants - s.reservedParticipants >= :seats
+            """)
+    int tryReserveSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    @Modifying
+    @Query("""
+                UPDATE TourSchedule s
+                SET s.bookedParticipants = s.bookedParticipants + :seats,
+                    s.status = CASE
+                        WHEN :privateTour = true OR s.bookedParticipants + :seats >= s.maxParticipants THEN 'BOOKED'
+                        ELSE 'ACTIVE'
+                    END
+                WHERE s.id = :id
+                AND s.maxParticipants - s.bookedParticipants - s.reservedParticipants >= :seats
+            """)
+    int tryBookSeats(
+            @Param("id") Long id,
+            @Param("seats") int seats,
+            @Param("privateTour") boolean privateTour);
+
+    // Payment succeeded: the held seats become booked seats.
+    @Modifying
+    @Query("""
+                UPDATE TourSchedule s
+                SET s.reservedParticipants = CASE
+                        WHEN s.reservedParticipants > :seats THEN s.reservedParticipants - :seats
+                        ELSE 0
+                    END,
+                    s.bookedParticipants = s.bookedParticipants + :seats,
+                    s.status = CASE
+                        WHEN :privateTour = true OR s.bookedParticipants + :seats >= s.maxParticipants THEN 'BOOKED'
+                        ELSE 'ACTIVE'
+                    END
+                WHERE s.id = :id
+            """)
+    int confirmReservedSeats(
+            @Param("id") Long id,
+            @Param("seats") int seats,
+            @Param("privateTour") boolean privateTour);
+
+    @Modifying
+    @Query("""
+                UPDATE TourSchedule s
+                SET s.reservedParticipants = CASE
+                        WHEN s.reservedParticipants > :seats THEN s.reservedParticipants - :seats
+                        ELSE 0
+                    END
+                WHERE s.id = :id
+            """)
+    int releaseReservedSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    // Gives booked seats back (cancellation, or undoing tryBookSeats when a
+    // later item of the same order cannot be booked) and reopens the schedule.
+    @Modifying
+    @Query("""
+                UPDATE TourSchedule s
+                SET s.bookedParticipants = CASE
+                        WHEN s.bookedParticipants > :seats THEN s.bookedParticipants - :seats
+                        ELSE 0
+                    END,
+                    s.status = CASE WHEN s.status = 'BOOKED' THEN 'ACTIVE' ELSE s.status END
+                WHERE s.id = :id
+            """)
+    int releaseBookedSeats(@Param("id") Long id, @Param("seats") int seats);
+
     /*
      * Scheduled maintenance
      */
 
+    interface ExpiredScheduleRow {
+        Long getId();
+
+        Long getTourId();
+    }
+
+    // A schedule without a time counts as started at midnight. Rows held by a
+    // concurrent booking are skipped and expired on the next run.
+    @Query(value = """
+                SELECT s.id AS id, s.tour_id AS tourId
+                FROM tour_schedules s
+                WHERE s.status = 'ACTIVE'
+                AND (s.date < :today OR (s.date = :today AND (s.time IS NULL OR s.time < :now)))
+                ORDER BY s.id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ExpiredScheduleRow> claimExpiredSchedules(
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            @Param("limit") int limit);
+
+    // Bypasses Envers; callers record the change with writeAuditRows.
     @Modifying
-    @Transactional
     @Query("""
                 UPDATE TourSchedule s SET s.status = 'EXPIRED'
-                WHERE s.status = 'ACTIVE' AND
-                (s.date < :today OR (s.date = :today AND s.time IS NOT NULL AND s.time < :now))
+                WHERE s.id IN :ids AND s.status = 'ACTIVE'
             """)
-    int markExpiredSchedules(@Param("today") LocalDate today, @Param("now") LocalTime now);
+    int markExpiredSchedules(@Param("ids") List<Long> ids);
+
+    // Copies the audited columns of the schedules into tour_schedules_aud
+    // under an AuditRevisions revision; the seat counters are not audited.
+    @Modifying
+    @Query(value = """
+                INSERT INTO tour_schedules_aud (id, rev, revtype, tour_id, date, "time", max_participants, status)
+                SELECT s.id, :rev, 1, s.tour_id, s.date, s."time", s.max_participants, s.status
+                FROM tour_schedules s
+                WHERE s.id IN (:ids)
+            """, nativeQuery = true)
+    int writeAuditRows(@Param("ids") List<Long> ids, @Param("rev") int rev);
+
+    // One aggregated decrement per schedule for a whole batch of orders. The
+    // schedule rows are locked in id order so concurrent batches cannot
+    // deadlock against each other.
+    @Modifying
+    @Query(value = """
+                WITH released AS (
+                    SELECT i.schedule_id, SUM(i.participants) AS seats
+                    FROM order_items i
+                    WHERE i.order_id IN (:orderIds)
+                    GROUP BY i.schedule_id
+                ), locked AS (
+                    SELECT s.id
+                    FROM tour_schedules s
+                    WHERE s.id IN (SELECT schedule_id FROM released)
+                    ORDER BY s.id
+                    FOR UPDATE
+                )
+                UPDATE tour_schedules s
+                SET reserved_participants = GREATEST(0, s.reserved_participants - r.seats)
+                FROM released r
+                WHERE s.id = r.schedule_id
+                AND s.id IN (SELECT id FROM locked)
+            """, nativeQuery = true)
+    int releaseReservedForOrders(@Param("orderIds") List<Long> orderIds);
 
     /*
      * Authorization helper (AOP)
@@ -0,0 +1,37 @@
+package com.tourhub.tour.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * HQL functions for the public tour search. tours.search_vector is a
+ * generated tsvector column (V40) and is not mapped on the entity, so both
+ * functions take the tour id and a prefix tsquery string.
+ */
+public class TourSearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        BasicType<Boolean> booleanType = types.resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = types.resolve(StandardBasicTypes.DOUBLE);
+
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+
+        registry.registerPattern(
+                "tour_search_matches",
+                "(?1 in (select tsv.id from tours tsv"
+                        + " where tsv.search_vector @@ to_tsquery('simple', ?2)))",
+                booleanType);
+
+        registry.registerPattern(
+                "tour_search_rank",
+                "(select ts_rank(tsv.search_vector, to_tsquery('simple', ?2))"
+                        + " from tours tsv where tsv.id = ?1)",
+                doubleType);
+    }
+}
@@ -0,0 +1,128 @@
+package com.tourhub.tour.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourAvailability;
+import com.tourhub.tour.model.TourCategory;
+import com.tourhub.tour.model.TourSchedule;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Predicates for the public tour search. Collection filters are expressed as
+ * EXISTS semi-joins so the outer query never needs DISTINCT.
+ */
+public final class TourSpecifications {
+
+    private TourSpecifications() {
+    }
+
+    public static Specification<Tour> isActive() {
+        return (root, query, cb) -> cb.equal(root.get("status"), "ACTIVE");
+    }
+
+    // Exact date probes tour_schedules(tour_id, date); otherwise the
+    // per-tour availability summary answers "any upcoming date".
+    public static Specification<Tour> hasAvailableSchedule(LocalDate date, LocalDate today) {
+        if (date == null) {
+            return hasUpcomingAvailability(today);
+        }
+
+        return (root, query, cb) -> {
+            Subquery<Integer> schedules = query.subquery(Integer.class);
+            Root<TourSchedule> schedule = schedules.from(TourSchedule.class);
+
+            schedules.select(cb.literal(1))
+                    .where(
+                            cb.equal(schedule.get("tour"), root),
+                            cb.equal(schedule.<LocalDate>get("date"), date),
+                            cb.lessThan(
+                                    schedule.<Integer>get("bookedParticipants"),
+                                    schedule.<Integer>get("maxParticipants")));
+
+            return cb.exists(schedules);
+        };
+    }
+
+    public static Specification<Tour> hasUpcomingAvailability(LocalDate today) {
+        return (root, query, cb) -> {
+            Subquery<Integer> availability = query.subquery(Integer.class);
+            Root<TourAvailability> summary = availability.from(TourAvailability.class);
+
+            availability.select(cb.literal(1))
+                    .where(
+                            cb.equal(summary.get("tourId"), root.get("id")),
+                            cb.greaterThanOrEqualTo(summary.<LocalDate>get("nextAvailableDate"), today));
+
+            return cb.exists(availability);
+        };
+    }
+
+    public static Specification<Tour> hasTypeIn(List<String> types) {
+        return (root, query, cb) -> root.get("type").in(types);
+    }
+
+    public static Specification<Tour> hasLanguageIn(List<String> languages) {
+        return (root, query, cb) -> {
+            Subquery<Integer> matches = query.subquery(Integer.class);
+            Root<Tour> tour = matches.correlate(root);
+            Join<Tour, String> language = tour.join("language");
+
+            matches.select(cb.literal(1)).where(language.in(languages));
+
+            return cb.exists(matches);
+        };
+    }
+
+    public static Specification<Tour> hasCategoryIn(List<TourCategory> categories) {
+        return (root, query, cb) -> {
+            Subquery<Integer> matches = query.subquery(Integer.class);
+            Root<Tour> tour = matches.correlate(root);
+            Join<Tour, TourCategory> category = tour.join("categories");
+
+            matches.select(cb.literal(1)).where(category.in(categories));
+
+            return cb.exists(matches);
+        };
+    }
+
+    // searchQuery is a prefix tsquery, see TourSearchFunctionContributor.
+    public static Specification<Tour> matchesKeyword(String searchQuery) {
+        return (root, query, cb) -> cb.isTrue(cb.function(
+                "tour_search_matches",
+                Boolean.class,
+                root.get("id"),
+                bound(cb, searchQuery)));
+    }
+
+    // Only applied to the page query; the count query drops ORDER BY.
+    public static Specification<Tour> orderedByRelevance(String searchQuery) {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        cb.desc(cb.function(
+                                "tour_search_rank",
+                                Double.class,
+                                root.get("id"),
+                                bound(cb, searchQuery))),
+                        cb.asc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    // cb.literal would inline the keyword into the SQL text, giving every
+    // search its own statement; a bind parameter keeps the SQL identical.
+    private static Expression<String> bound(CriteriaBuilder cb, String value) {
+        return ((HibernateCriteriaBuilder) cb).value(value);
+    }
+}
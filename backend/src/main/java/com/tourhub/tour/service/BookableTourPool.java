@@ -0,0 +1,129 @@
+package com.tourhub.tour.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tourhub.tour.event.TourCatalogChangedEvent;
+import com.tourhub.tour.model.TourCategory;
+import com.tourhub.tour.repository.TourRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory pool of bookable tour IDs used by the homepage random endpoints.
+ * Samples are drawn without touching the database; the pool is reloaded
+ * periodically and on the first read after a tour or schedule change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookableTourPool {
+
+    private final TourRepository tourRepository;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+
+    public List<Long> sample(int count) {
+        return pick(current().all(), count);
+    }
+
+    public List<Long> sample(TourCategory category, int count) {
+        return pick(current().byCategory().getOrDefault(category, List.of()), count);
+    }
+
+    // Bookings also change availability; they are picked up here.
+    @Scheduled(fixedDelayString = "${app.tours.random-pool.refresh-ms:60000}")
+    public void refresh() {
+        stale = true;
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(TourCatalogChangedEvent event) {
+        stale = true;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current == null || stale ? reload() : current;
+    }
+
+    private synchronized Snapshot reload() {
+        if (snapshot != null && !stale) {
+            return snapshot;
+        }
+
+        // Cleared before loading so a change committed mid-load marks it again.
+        stale = false;
+
+        Set<Long> all = new LinkedHashSet<>();
+        Map<TourCategory, List<Long>> byCategory = new EnumMap<>(TourCategory.class);
+
+        for (Object[] row : tourRepository.findBookableTourIdsWithCategories()) {
+            Long tourId = (Long) row[0];
+            TourCategory category = (TourCategory) row[1];
+
+            all.add(tourId);
+
+            if (category != null) {
+                byCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(tourId);
+            }
+        }
+
+        byCategory.replaceAll((category, ids) -> List.copyOf(ids));
+
+        Snapshot loaded = new Snapshot(List.copyOf(all), byCategory);
+        snapshot = loaded;
+
+        log.debug("Loaded {} bookable tours into the random pool", all.size());
+
+        return loaded;
+    }
+
+    // Floyd's algorithm: count distinct indexes in O(count), then shuffled.
+    private static List<Long> pick(List<Long> ids, int count) {
+        int size = ids.size();
+
+        if (count <= 0 || size == 0) {
+            return List.of();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> picked = new ArrayList<>(Math.min(count, size));
+
+        if (count >= size) {
+            picked.addAll(ids);
+        } else {
+            Set<Integer> indexes = new LinkedHashSet<>();
+
+            for (int j = size - count; j < size; j++) {
+                int index = random.nextInt(j + 1);
+
+                if (!indexes.add(index)) {
+                    indexes.add(j);
+                }
+            }
+
+            indexes.forEach(index -> picked.add(ids.get(index)));
+        }
+
+        Collections.shuffle(picked, random);
+        return picked;
+    }
+
+    private record Snapshot(List<Long> all, Map<TourCategory, List<Long>> byCategory) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.tourhub.tour.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tourhub.common.audit.AuditRevisions;
+import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.repository.TourScheduleRepository.ExpiredScheduleRow;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleExpirationService {
+
+    private final TourScheduleRepository scheduleRepository;
+    private final TourCacheInvalidator cacheInvalidator;
+    private final AuditRevisions auditRevisions;
+
+    /**
+     * Expires at most {@code limit} past ACTIVE schedules in one short
+     * transaction, without loading the entities. The status change is
+     * written to tour_schedules_aud under one revision per batch.
+     *
+     * @return the number of schedules claimed; less than {@code limit} means
+     *         nothing claimable is left
+     */
+    @Transactional
+    public int expireBatch(LocalDate today, LocalTime now, int limit) {
+
+        List<ExpiredScheduleRow> rows = scheduleRepository.claimExpiredSchedules(today, now, limit);
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = rows.stream().map(ExpiredScheduleRow::getId).toList();
+
+        scheduleRepository.markExpiredSchedules(ids);
+        scheduleRepository.writeAuditRows(ids, auditRevisions.current());
+
+        cacheInvalidator.evictSchedules(
+                rows.stream().map(ExpiredScheduleRow::getTourId).distinct().toList());
+
+        return rows.size();
+    }
+}
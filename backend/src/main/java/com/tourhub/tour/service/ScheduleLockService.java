@@ -0,0 +1,61 @@
+package com.tourhub.tour.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Single entry point for pessimistic schedule locks. The ids are sorted and
+ * locked in one statement, so two transactions that touch overlapping sets of
+ * schedules always acquire the rows in the same order and cannot deadlock
+ * against each other.
+ *
+ * Only for work that must be serialized beyond a seat counter, such as
+ * creating a schedule's session on finalize. Seat counters need no lock up
+ * front: the conditional updates in TourScheduleRepository are atomic on
+ * their own and are applied in ascending schedule id order instead. The
+ * returned entities may already have been in the persistence context and are
+ * only safe to read for non-counter fields.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleLockService {
+
+    private final TourScheduleRepository tourScheduleRepository;
+
+    // Locked schedules keyed by id, in ascending id order. Unknown ids are absent.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, TourSchedule> lockAll(Collection<Long> scheduleIds) {
+        TreeSet<Long> ids = new TreeSet<>();
+
+        scheduleIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(ids::add);
+
+        Map<Long, TourSchedule> locked = new LinkedHashMap<>();
+
+        if (ids.isEmpty()) {
+            return locked;
+        }
+
+        List<TourSchedule> schedules = tourScheduleRepository.findAllByIdForUpdate(ids);
+
+        for (TourSchedule schedule : schedules) {
+            locked.put(schedule.getId(), schedule);
+        }
+
+        return locked;
+    }
+}
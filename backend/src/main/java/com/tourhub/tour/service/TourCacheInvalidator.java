@@ -0,0 +1,44 @@
+package com.tourhub.tour.service;
+
+import java.util.Collection;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.tourhub.config.CacheConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Programmatic eviction for writes that bypass @CacheEvict and the entity
+ * callbacks (bulk JPQL/native updates). The cache manager is transaction-aware,
+ * so inside a transaction the eviction runs after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void evictSchedules(Long tourId) {
+        Cache cache = cacheManager.getCache(CacheConfig.TOUR_SCHEDULES);
+
+        if (cache != null && tourId != null) {
+            cache.evict(tourId);
+        }
+    }
+
+    public void evictSchedules(Collection<Long> tourIds) {
+        tourIds.forEach(this::evictSchedules);
+    }
+
+    // Cached tour DTOs embed shop fields; shop edits are rare, so clear all.
+    public void evictAllTours() {
+        Cache cache = cacheManager.getCache(CacheConfig.TOURS);
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.tourhub.tour.service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tourhub.config.CacheConfig;
+import com.tourhub.tour.dto.TourImageResponseDto;
 import com.tourhub.tour.model.Tour;
 import com.tourhub.tour.model.TourImage;
 import com.tourhub.tour.repository.TourImageRepository;
@@ -27,15 +33,25 @@ public class TourImageService {
     private final TourRepository tourRepository;
     private final TourImageRepository tourImageRepository;
 
+    // Cached as DTOs: the entities hold a lazy tour proxy and would be
+    // shared, mutable and detached across requests.
     @Transactional(readOnly = true)
-    public Result<List<TourImage>> getImagesByTour(Long tourId) {
+    @Cacheable(cacheNames = CacheConfig.TOUR_IMAGES, key = "#tourId")
+    public Result<List<TourImageResponseDto>> getImagesByTour(Long tourId) {
 
-        List<TourImage> images = tourImageRepository.findByTourIdOrderByPositionAsc(tourId);
+        List<TourImageResponseDto> images = tourImageRepository.findByTourIdOrderByPositionAsc(tourId)
+                .stream()
+                .map(this::toDto)
+                .toList();
 
         return Result.ok(images);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOUR_IMAGES, key = "#tourId"),
+            @CacheEvict(cacheNames = CacheConfig.TOURS, key = "#tourId")
+    })
     @ShopAccess(value = AccessLevel.GUIDE, source = ShopIdSource.TOUR_ID)
     public Result<TourImage> addImageToTour(Long tourId, String imageUrl) {
 
@@ -51,11 +67,16 @@ public class TourImageService {
 
         TourImage savedImage = tourImageRepository.save(image);
         tour.getImages().add(savedImage);
+        tourRepository.touch(tourId, Instant.now());
 
         return Result.ok(savedImage);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOUR_IMAGES, key = "#tourId"),
+            @CacheEvict(cacheNames = CacheConfig.TOURS, key = "#tourId")
+    })
     @ShopAccess(value = AccessLevel.GUIDE, source = ShopIdSource.TOUR_ID)
     public Result<Boolean> deleteImage(Long tourId, Long imageId) {
 
@@ -64,10 +85,15 @@ public class TourImageService {
         }
 
         tourImageRepository.deleteById(imageId);
+        tourRepository.touch(tourId, Instant.now());
         return Result.ok(true);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOUR_IMAGES, key = "#tourId"),
+            @CacheEvict(cacheNames = CacheConfig.TOURS, key = "#tourId")
+    })
     @ShopAccess(value = AccessLevel.GUIDE, source = ShopIdSource.TOUR_ID)
     public Result<Boolean> updateImageOrder(Long tourId, List<Long> orderedImageIds) {
 
@@ -101,9 +127,18 @@ public class TourImageService {
         }
 
         tourImageRepository.saveAll(images);
+        tourRepository.touch(tourId, Instant.now());
         return Result.ok(true);
     }
 
+    private TourImageResponseDto toDto(TourImage image) {
+        return new TourImageResponseDto(
+                image.getId(),
+                image.getImageUrl(),
+                image.getPosition(),
+                image.getUploadedAt());
+    }
+
 }
 
 
@@ -3,12 +3,17 @@ package com.tourhub.tour.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tourhub.config.CacheConfig;
 import com.tourhub.tour.dto.TourScheduleCreateDto;
 import com.tourhub.tour.dto.TourScheduleResponseDto;
 import com.tourhub.tour.dto.TourScheduleUpdateDto;
+import com.tourhub.tour.event.ScheduleCapacityChangedEvent;
+import com.tourhub.tour.event.TourCatalogChangedEvent;
 import com.tourhub.tour.mapper.TourScheduleMapper;
 import com.tourhub.tour.model.Tour;
 import com.tourhub.tour.model.TourSchedule;
@@ -29,6 +34,7 @@ public class TourScheduleService {
     private final TourScheduleRepository scheduleRepository;
     private final TourRepository tourRepository;
     private final TourScheduleMapper scheduleMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Result<List<TourScheduleResponseDto>> getAllSchedulesForTour(Long tourId) {
@@ -41,6 +47,7 @@ public class TourScheduleService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOUR_SCHEDULES, key = "#tourId")
     public Result<List<TourScheduleResponseDto>> getSchedulesForTour(Long tourId) {
 
         return Result.ok(
@@ -76,6 +83,8 @@ public class TourScheduleService {
         schedule.setStatus("ACTIVE");
 
         TourSchedule saved = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new TourCatalogChangedEvent(tour.getId()));
+
         return Result.ok(scheduleMapper.toDto(saved));
     }
 
@@ -98,6 +107,9 @@ public class TourScheduleService {
         if (dto.getTime() != null)
             schedule.setTime(dto.getTime());
 
+        boolean capacityChanged = dto.getMaxParticipants() != null
+                && dto.getMaxParticipants() != schedule.getMaxParticipants();
+
         if (dto.getMaxParticipants() != null)
             schedule.setMaxParticipants(dto.getMaxParticipants());
 
@@ -111,6 +123,12 @@ public class TourScheduleService {
         }
 
         scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new TourCatalogChangedEvent(schedule.getTour().getId()));
+
+        if (capacityChanged) {
+            eventPublisher.publishEvent(new ScheduleCapacityChangedEvent(schedule.getId()));
+        }
+
         return Result.ok(scheduleMapper.toDto(schedule));
     }
 
@@ -118,11 +136,16 @@ public class TourScheduleService {
     @ShopAccess(value = AccessLevel.GUIDE, source = ShopIdSource.SCHEDULE_ID)
     public Result<Boolean> deleteSchedule(Long id) {
 
-        if (!scheduleRepository.existsById(id)) {
+        Long tourId = tourRepository.findTourIdByScheduleId(id);
+
+        if (tourId == null) {
             return Result.fail(ApiError.notFound("Schedule not found"));
         }
 
         scheduleRepository.deleteById(id);
+        eventPublisher.publishEvent(new TourCatalogChangedEvent(tourId));
+        eventPublisher.publishEvent(new ScheduleCapacityChangedEvent(id));
+
         return Result.ok(true);
     }
 
@@ -1,27 +1,42 @@
 package com.tourhub.tour.service;
 
 import java.security.Principal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tourhub.config.CacheConfig;
 import com.tourhub.tour.dto.TourCreateDto;
 import com.tourhub.tour.dto.TourResponseDto;
 import com.tourhub.tour.dto.TourUpdateDto;
+import com.tourhub.tour.event.TourCatalogChangedEvent;
 import com.tourhub.tour.mapper.TourMapper;
 import com.tourhub.tour.model.Tour;
 import com.tourhub.tour.model.TourCategory;
 import com.tourhub.shop.model.Shop;
 import com.tourhub.shop.repository.ShopRepository;
 import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.repository.TourSpecifications;
 import com.tourhub.security.annotations.AccessLevel;
 import com.tourhub.security.annotations.ShopAccess;
 import com.tourhub.common.result.ApiError;
@@ -39,9 +54,13 @@ public class TourService {
             "ON_HOLD",
             "CANCELLED");
 
+    private static final String RELEVANCE_SORT = "relevance";
+
     private final TourRepository tourRepository;
     private final TourMapper tourMapper;
     private final ShopRepository shopRepository;
+    private final BookableTourPool bookableTourPool;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @ShopAccess(value = AccessLevel.GUIDE, source = ShopIdSource.SHOP_ID)
@@ -62,10 +81,13 @@ public class TourService {
         tour.setMadeBy(principal.getName());
 
         Tour saved = tourRepository.save(tour);
+        eventPublisher.publishEvent(new TourCatalogChangedEvent(saved.getId()));
+
         return Result.ok(tourMapper.toDto(saved));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURS, key = "#tourId")
     @ShopAccess(value = AccessLevel.GUIDE, source = ShopIdSource.TOUR_ID)
     public Result<TourResponseDto> updateTour(Long tourId, TourUpdateDto dto) {
 
@@ -77,8 +99,13 @@ public class TourService {
         }
 
         tourMapper.updateTourFromDto(dto, tour);
+        // Category and language edits only touch the collection tables, so
+        // without this the tour row, and with it the ETag, would not change.
+        tour.setUpdatedAt(Instant.now());
 
         Tour saved = tourRepository.save(tour);
+        eventPublisher.publishEvent(new TourCatalogChangedEvent(tourId));
+
         return Result.ok(tourMapper.toDto(saved));
     }
 
@@ -110,6 +137,7 @@ public class TourService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURS, key = "#tourId")
     public Result<TourResponseDto> updateTourStatus(Long tourId, String status) {
 
         Tour tour = tourRepository.findById(tourId)
@@ -131,6 +159,7 @@ public class TourService {
 
         tour.setStatus(normalizedStatus);
         Tour saved = tourRepository.save(tour);
+        eventPublisher.publishEvent(new TourCatalogChangedEvent(tourId));
 
         return Result.ok(tourMapper.toDto(saved));
     }
@@ -156,14 +185,15 @@ public class TourService {
             int size,
             String[] sort) {
 
+        boolean sortByRelevance = RELEVANCE_SORT.equalsIgnoreCase(sort[0]);
+
         Sort sortSpec = Sort.by(
                 Sort.Direction.fromString(sort[1]),
-                sort[0]);
+                sortByRelevance ? "title" : sort[0]);
 
         Pageable pageable = PageRequest.of(page, size, sortSpec);
 
-        if (keyword != null && keyword.isBlank())
-            keyword = null;
+        keyword = toSearchQuery(keyword);
 
         List<TourCategory> categoryEnums = null;
         if (categories != null && !categories.isEmpty()) {
@@ -177,56 +207,40 @@ public class TourService {
             }
         }
 
-        boolean hasCategory = categoryEnums != null && !categoryEnums.isEmpty();
-        boolean hasDate = date != null;
+        List<Specification<Tour>> filters = new ArrayList<>();
+        filters.add(TourSpecifications.isActive());
+        filters.add(TourSpecifications.hasAvailableSchedule(date, LocalDate.now()));
+
+        if (type != null && !type.isEmpty()) {
+            filters.add(TourSpecifications.hasTypeIn(type));
+        }
 
-        Page<Tour> tours;
+        if (language != null && !language.isEmpty()) {
+            filters.add(TourSpecifications.hasLanguageIn(language));
+        }
 
-        if (type != null && type.isEmpty()) {
-            type = null;
+        if (categoryEnums != null) {
+            filters.add(TourSpecifications.hasCategoryIn(categoryEnums));
         }
 
-        if (hasCategory && hasDate) {
-            tours = tourRepository.searchWithCategoryAndDate(
-                    categoryEnums,
-                    type,
-                    language,
-                    keyword,
-                    date,
-                    pageable);
-
-        } else if (hasCategory) {
-            tours = tourRepository.searchWithCategory(
-                    categoryEnums,
-                    type,
-                    language,
-                    keyword,
-                    pageable);
-
-        } else if (hasDate) {
-            tours = tourRepository.searchWithDate(
-                    type,
-                    language,
-                    keyword,
-                    date,
-                    pageable);
-
-        } else {
-            tours = tourRepository.searchBase(
-                    type,
-                    language,
-                    keyword,
-                    pageable);
+        if (keyword != null) {
+            filters.add(TourSpecifications.matchesKeyword(keyword));
+
+            if (sortByRelevance) {
+                filters.add(TourSpecifications.orderedByRelevance(keyword));
+                pageable = PageRequest.of(page, size);
+            }
         }
 
+        Page<Tour> tours = tourRepository.findAll(Specification.allOf(filters), pageable);
+
         return Result.ok(tours.map(tourMapper::toDto));
     }
 
     @Transactional(readOnly = true)
     public Result<List<TourResponseDto>> getRandomTours(int count) {
 
-        List<TourResponseDto> tours = tourRepository
-                .findRandomActiveTours(count)
+        List<TourResponseDto> tours = findInOrder(bookableTourPool.sample(count))
                 .stream()
                 .map(tourMapper::toDto)
                 .toList();
@@ -237,13 +251,21 @@ public class TourService {
     @Transactional(readOnly = true)
     public Result<TourResponseDto> getHighlightedTour() {
 
-        return tourRepository.findRandomActiveTour()
+        return findInOrder(bookableTourPool.sample(1))
+                .stream()
+                .findFirst()
                 .map(tourMapper::toDto)
                 .map(Result::ok)
                 .orElseGet(() -> Result.fail(ApiError.notFound("No active tours found")));
     }
 
     @Transactional(readOnly = true)
+    public Instant getTourVersion(Long id) {
+        return tourRepository.findUpdatedAtById(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOURS, key = "#id", unless = "#result.isFail()")
     public Result<TourResponseDto> getTourById(Long id) {
 
         return tourRepository.findById(id)
@@ -274,8 +296,7 @@ public class TourService {
             return Result.fail(ApiError.badRequest("Invalid category"));
         }
 
-        List<TourResponseDto> tours = tourRepository
-                .findRandomActiveToursByCategory(categoryEnum.name(), count)
+        List<TourResponseDto> tours = findInOrder(bookableTourPool.sample(categoryEnum, count))
                 .stream()
                 .map(tourMapper::toDto)
                 .toList();
@@ -283,6 +304,22 @@ public class TourService {
         return Result.ok(tours);
     }
 
+    // findAllById does not keep the sampled order.
+    private List<Tour> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Tour> byId = tourRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Tour::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private String normalizeQuery(String query) {
         if (query == null || query.isBlank()) {
             return null;
@@ -291,6 +328,21 @@ public class TourService {
         return query.trim();
     }
 
+    // Turns free text into a prefix tsquery ("old town" -> "old:* & town:*")
+    // so partially typed words still match while the user is typing.
+    private String toSearchQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        String query = Arrays.stream(keyword.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return query.isEmpty() ? null : query;
+    }
+
     private String normalizeStatus(String status) {
         if (status == null || status.isBlank()) {
             return null;
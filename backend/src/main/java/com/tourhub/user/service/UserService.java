@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tourhub.security.CurrentUserService;
+import com.tourhub.security.UserAccessCache;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
 import com.tourhub.user.dto.PublicManagerProfileDto;
@@ -32,6 +33,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final CurrentUserService currentUserService;
+    private final UserAccessCache userAccessCache;
 
     @Transactional(readOnly = true)
     public Result<UserResponseDto> getUserProfile(UUID userId) {
@@ -114,6 +116,7 @@ public class UserService {
 
         user.setStatus(UserStatus.REMOVED);
         userRepository.save(user);
+        userAccessCache.invalidate(userId);
 
         return Result.ok();
     }
@@ -133,6 +136,7 @@ public class UserService {
 
         user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
+        userAccessCache.invalidate(userId);
 
         return Result.ok();
     }
@@ -148,6 +152,7 @@ public class UserService {
 
         user.setRole(role);
         userRepository.save(user);
+        userAccessCache.invalidate(userId);
 
         return Result.ok();
     }
@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_tour_schedules_tour_date
+    ON tour_schedules(tour_id, date);
+
+CREATE INDEX IF NOT EXISTS idx_tour_languages_tour_language
+    ON tour_languages(tour_id, language);
+
+CREATE INDEX IF NOT EXISTS idx_tour_categories_tour_category
+    ON tour_categories(tour_id, category);
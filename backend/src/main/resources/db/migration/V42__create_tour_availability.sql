@@ -0,0 +1,21 @@
+-- One narrow row per tour with its earliest bookable date, so public search
+-- and homepage queries no longer scan tour_schedules per tour. It is a
+-- materialized view refreshed by ScheduleCleanupJob rather than a table kept
+-- up to date by triggers: seat updates never touch it, so checkouts on
+-- different schedules of one tour do not queue behind a shared summary row,
+-- and readers are never blocked by a concurrent refresh.
+-- A schedule is bookable when it is today or later and not fully booked.
+CREATE MATERIALIZED VIEW tour_availability AS
+SELECT ts.tour_id,
+       MIN(ts.date) AS next_available_date
+FROM tour_schedules ts
+WHERE ts.date >= CURRENT_DATE
+  AND ts.booked_participants < ts.max_participants
+GROUP BY ts.tour_id;
+
+-- Required by REFRESH MATERIALIZED VIEW CONCURRENTLY.
+CREATE UNIQUE INDEX idx_tour_availability_tour_id
+    ON tour_availability(tour_id);
+
+CREATE INDEX idx_tour_availability_next_date
+    ON tour_availability(next_available_date);
@@ -0,0 +1,4 @@
+-- Version stamp for conditional GET on tour detail. Bumped by the entity on
+-- update and explicitly when the tour's images change.
+ALTER TABLE tours
+    ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW();
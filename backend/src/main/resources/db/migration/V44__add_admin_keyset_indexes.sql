@@ -0,0 +1,7 @@
+-- Admin order and payment line listings page by (created_at DESC, id DESC)
+-- using a keyset cursor; these let each page be a single index range scan.
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id
+    ON orders (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_payment_lines_created_at_id
+    ON payment_lines (created_at, id);
@@ -0,0 +1,3 @@
+-- Session cleanup scans open sessions by status in id order.
+CREATE INDEX IF NOT EXISTS idx_tour_session_status_id
+    ON tour_session (status, id);
@@ -0,0 +1,29 @@
+-- Outgoing emails are written here in the transaction that triggers them and
+-- delivered by EmailOutboxWorker; sent rows are deleted.
+CREATE TABLE email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(320) NOT NULL,
+    subject TEXT NOT NULL,
+    html TEXT NOT NULL,
+    reply_to VARCHAR(320),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_email_outbox_next_attempt_at
+    ON email_outbox(next_attempt_at);
+
+-- Messages that exhausted their retries, kept for inspection and manual resend.
+CREATE TABLE email_dead_letters (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(320) NOT NULL,
+    subject TEXT NOT NULL,
+    html TEXT NOT NULL,
+    reply_to VARCHAR(320),
+    attempts INTEGER NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL,
+    failed_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
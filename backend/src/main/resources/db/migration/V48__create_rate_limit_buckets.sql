@@ -0,0 +1,10 @@
+-- Token buckets shared across replicas when app.rate-limit.store=postgres.
+-- Idle rows are full buckets and are purged by PostgresRateLimitStore.
+CREATE TABLE rate_limit_buckets (
+    bucket_key VARCHAR(200) PRIMARY KEY,
+    tokens DOUBLE PRECISION NOT NULL,
+    refilled_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_buckets_refilled_at
+    ON rate_limit_buckets(refilled_at);
@@ -27,6 +27,8 @@ import com.tourhub.user.dto.UserResponseDto;
 import com.tourhub.user.model.Role;
 import com.tourhub.user.model.User;
 import com.tourhub.user.repository.UserRepository;
+import com.tourhub.security.AccessTokenClaims;
+import com.tourhub.security.CustomUserDetails;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
 import com.tourhub.security.testutil.TestUserFactory;
@@ -171,13 +173,15 @@ class AuthenticationControllerTest {
         void me_returnsUser_whenJwtValid() throws Exception {
                 UUID userId = UUID.randomUUID();
 
-                when(jwtService.validateAccessToken("good")).thenReturn(true);
-                when(jwtService.getUserId("good")).thenReturn(userId);
+                when(jwtService.verifyAccessToken("good")).thenReturn(Optional.of(
+                                new AccessTokenClaims(userId, "user@test.com", "USER", Instant.now().plusSeconds(60))));
 
-                // JwtAuthenticationFilter loads userDetails by ID
-                when(customUserDetailsService.loadUserById(userId))
-                                .thenReturn(TestUserFactory.userWithRole("USER")); // ensure principal is
-                                                                                   // CustomUserDetails
+                // JwtAuthenticationFilter builds the principal from the token claims
+                CustomUserDetails principal = TestUserFactory.userWithRole("USER");
+                when(customUserDetailsService.loadUserFromClaims(any()))
+                                .thenReturn(Optional.of(principal));
+                when(userRepository.findById(principal.getId()))
+                                .thenReturn(Optional.of(principal.getUser()));
 
                 mockMvc.perform(get("/auth/me")
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer good"))
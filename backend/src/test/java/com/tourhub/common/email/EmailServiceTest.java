@@ -0,0 +1,94 @@
+package com.tourhub.common.email;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.common.email.outbox.EmailOutbox;
+import com.tourhub.user.model.User;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceTest {
+
+    private static final EmailBranding BRANDING = new EmailBranding(
+            "Alpine & Co", "#123456", "#654321", null, "help@alpine.test", "inbox@alpine.test");
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    @Mock
+    private EmailBrandingProvider brandingProvider;
+
+    @InjectMocks
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emailService, "frontendBaseUrl", "https://alpine.test");
+        when(brandingProvider.current()).thenReturn(BRANDING);
+    }
+
+    @Test
+    void sendVerificationEmail_rendersBrandedLayoutIntoOutbox() {
+        User user = new User();
+        user.setEmail("guest@test.com");
+        user.setName("<Ana>");
+
+        emailService.sendVerificationEmail(user, "tok");
+
+        ArgumentCaptor<String> html = ArgumentCaptor.forClass(String.class);
+        verify(emailOutbox).enqueue(eq("guest@test.com"), eq("Confirm your email - Alpine & Co"),
+                html.capture(), eq("help@alpine.test"));
+
+        String body = html.getValue();
+        assertTrue(body.startsWith("<html>"));
+        assertTrue(body.endsWith("</html>"));
+        assertTrue(body.contains("Alpine &amp; Co"));
+        assertTrue(body.contains("background-color:#123456"));
+        assertTrue(body.contains("https://alpine.test/verify-email?token=tok"));
+        assertTrue(body.contains("&lt;Ana&gt;"));
+        assertFalse(body.contains("{{"));
+    }
+
+    @Test
+    void sendVerificationEmail_keepsBracesInBrandingAsText() {
+        when(brandingProvider.current()).thenReturn(new EmailBranding(
+                "Tours {{2025}}", "#123456", "#654321", "https://cdn.test/{{logo}}.png", null, null));
+        ReflectionTestUtils.setField(emailService, "frontendBaseUrl", "https://tours.test/{{site}}");
+
+        User user = new User();
+        user.setEmail("guest@test.com");
+        user.setName("Ana");
+
+        emailService.sendVerificationEmail(user, "tok");
+
+        ArgumentCaptor<String> html = ArgumentCaptor.forClass(String.class);
+        verify(emailOutbox).enqueue(eq("guest@test.com"), eq("Confirm your email - Tours {{2025}}"),
+                html.capture(), eq(null));
+
+        String body = html.getValue();
+        assertTrue(body.contains("alt=\"Tours {{2025}}\""));
+        assertTrue(body.contains("Sent by Tours {{2025}}"));
+        assertTrue(body.contains("src=\"https://cdn.test/{{logo}}.png\""));
+        assertTrue(body.contains("href=\"https://tours.test/{{site}}\""));
+    }
+
+    @Test
+    void sendContactMessage_usesCachedReceiver() {
+        emailService.sendContactMessage("Ana", "ana@test.com", "Hi", "Line 1\nLine 2");
+
+        verify(emailOutbox).enqueue(eq("inbox@alpine.test"), eq("Contact form - Hi"), any(), eq("ana@test.com"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.tourhub.common.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class EmailTemplateTest {
+
+    @Test
+    void render_fillsEverySlotInOrder() {
+        EmailTemplate template = EmailTemplate.compile("<p style=\"color:red;\">{{greeting}}, {{name}}!</p>{{footer}}");
+
+        String html = template.render(Map.of("greeting", "Hello", "name", "<b>Ana</b>", "footer", ""));
+
+        assertEquals("<p style=\"color:red;\">Hello, <b>Ana</b>!</p>", html);
+    }
+
+    @Test
+    void render_returnsLiteral_whenTemplateHasNoSlots() {
+        assertEquals("<hr/>", EmailTemplate.compile("<hr/>").render(Map.of()));
+    }
+
+    @Test
+    void render_rejectsMissingSlotValue() {
+        EmailTemplate template = EmailTemplate.compile("{{title}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+    }
+
+    @Test
+    void compile_rejectsUnclosedSlot() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("<h1>{{title</h1>"));
+    }
+}
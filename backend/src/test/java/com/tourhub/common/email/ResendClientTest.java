@@ -0,0 +1,180 @@
+package com.tourhub.common.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * Runs the client against a local stub of the Resend API.
+ */
+class ResendClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private final List<JsonNode> bodies = new CopyOnWriteArrayList<>();
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+
+    private volatile int status = 200;
+    private volatile long delayMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private ResendClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestURI().getPath());
+            bodies.add(objectMapper.readTree(exchange.getRequestBody()));
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] response = "{\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new ResendClient(objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "fromEmail", "info@test.com");
+        ReflectionTestUtils.setField(client, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(client, "readTimeout", Duration.ofMillis(500));
+        ReflectionTestUtils.setField(client, "httpVersion", HttpClient.Version.HTTP_1_1);
+        ReflectionTestUtils.setField(client, "failureThreshold", 2);
+        ReflectionTestUtils.setField(client, "openDuration", Duration.ofMinutes(1));
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void sendBatch_postsAllMessagesInOneRequest() {
+        client.sendBatch(List.of(
+                new EmailMessage("a@test.com", "Cancelled", "<p>a</p>", null),
+                new EmailMessage("b@test.com", "Cancelled", "<p>b</p>", "support@test.com")));
+
+        assertEquals(List.of("/emails/batch"), paths);
+
+        JsonNode batch = bodies.get(0);
+        assertTrue(batch.isArray());
+        assertEquals(2, batch.size());
+        assertEquals("a@test.com", batch.get(0).get("to").get(0).asText());
+        assertTrue(batch.get(0).path("reply_to").isMissingNode());
+        assertEquals("support@test.com", batch.get(1).get("reply_to").asText());
+        assertEquals(1, meterRegistry.get("resend_request_duration").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void sendEmail_reusesPooledConnection() {
+        client.sendEmail("a@test.com", "Hello", "<p>a</p>");
+        client.sendEmail("b@test.com", "Hello", "<p>b</p>");
+        client.sendEmail("c@test.com", "Hello", "<p>c</p>");
+
+        assertEquals(List.of("/emails", "/emails", "/emails"), paths);
+        assertEquals(1, clientPorts.stream().distinct().count());
+    }
+
+    @Test
+    void sendEmail_failsWhenServerIsSlowerThanReadTimeout() {
+        delayMillis = 2000;
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> client.sendEmail("a@test.com", "Hello", "<p>a</p>"));
+
+        assertInstanceOf(HttpTimeoutException.class, error.getCause());
+        assertEquals(1, meterRegistry.get("resend_request_duration").tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void sendEmail_opensCircuitAfterConsecutiveServerErrors() {
+        status = 503;
+
+        assertThrows(IllegalStateException.class, () -> client.sendEmail("a@test.com", "s", "h"));
+        assertThrows(IllegalStateException.class, () -> client.sendEmail("a@test.com", "s", "h"));
+        assertThrows(ResendUnavailableException.class, () -> client.sendEmail("a@test.com", "s", "h"));
+
+        assertEquals(2, paths.size());
+        assertEquals(1.0, meterRegistry.get("resend_circuit_open").gauge().value());
+    }
+
+    @Test
+    void sendEmail_reportsThrottling() {
+        status = 429;
+
+        assertThrows(ResendUnavailableException.class, () -> client.sendEmail("a@test.com", "s", "h"));
+    }
+
+    @Test
+    void sendBatch_reportsRejection_onClientError_withoutOpeningCircuit() {
+        status = 422;
+
+        List<EmailMessage> batch = List.of(new EmailMessage("a@test.com", "s", "h", null));
+
+        ResendRejectedException error = assertThrows(ResendRejectedException.class, () -> client.sendBatch(batch));
+        assertThrows(ResendRejectedException.class, () -> client.sendBatch(batch));
+        assertThrows(ResendRejectedException.class, () -> client.sendBatch(batch));
+
+        assertEquals(422, error.getStatus());
+        assertEquals(3, paths.size());
+        assertEquals(0.0, meterRegistry.get("resend_circuit_open").gauge().value());
+    }
+
+    @Test
+    void sendEmail_reportsUnavailable_whenCredentialsAreRefused() {
+        status = 401;
+
+        assertThrows(ResendUnavailableException.class, () -> client.sendEmail("a@test.com", "s", "h"));
+    }
+
+    @Test
+    void sendBatch_rejectsOversizedBatch() {
+        List<EmailMessage> messages = IntStream.range(0, ResendClient.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> new EmailMessage(i + "@test.com", "s", "h", null))
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> client.sendBatch(messages));
+        assertTrue(paths.isEmpty());
+    }
+}
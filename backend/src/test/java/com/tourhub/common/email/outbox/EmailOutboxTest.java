@@ -0,0 +1,115 @@
+package com.tourhub.common.email.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxTest {
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private EmailDeadLetterRepository deadLetterRepository;
+
+    @InjectMocks
+    private EmailOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outbox, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outbox, "initialBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(outbox, "maxBackoff", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(outbox, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void claimDue_leasesClaimedMessages() {
+        Instant now = Instant.parse("2030-01-01T10:00:00Z");
+        when(outboxRepository.lockDue(now, 10)).thenReturn(List.of(message(1L, 0), message(2L, 0)));
+
+        assertEquals(2, outbox.claimDue(now, 10).size());
+        verify(outboxRepository).leaseUntil(List.of(1L, 2L), now.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void markFailed_schedulesRetryWithExponentialBackoff() {
+        Instant now = Instant.parse("2030-01-01T10:00:00Z");
+        EmailOutboxMessage message = message(1L, 1);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        assertFalse(outbox.markFailed(1L, "503", now));
+
+        assertEquals(2, message.getAttempts());
+        assertEquals(now.plusSeconds(60), message.getNextAttemptAt());
+        assertEquals("503", message.getLastError());
+        verify(deadLetterRepository, never()).save(any());
+    }
+
+    @Test
+    void markFailed_movesMessageToDeadLetters_afterLastAttempt() {
+        EmailOutboxMessage message = message(1L, 2);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        assertTrue(outbox.markFailed(1L, "timeout", Instant.now()));
+
+        ArgumentCaptor<EmailDeadLetter> deadLetter = ArgumentCaptor.forClass(EmailDeadLetter.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        verify(outboxRepository).delete(message);
+        assertEquals("guest@test.com", deadLetter.getValue().getRecipient());
+        assertEquals(3, deadLetter.getValue().getAttempts());
+        assertEquals("timeout", deadLetter.getValue().getLastError());
+    }
+
+    @Test
+    void deadLetter_movesMessageImmediately_withoutUsingRemainingAttempts() {
+        EmailOutboxMessage message = message(1L, 0);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        outbox.deadLetter(1L, "Resend rejected the email request with status 422");
+
+        ArgumentCaptor<EmailDeadLetter> deadLetter = ArgumentCaptor.forClass(EmailDeadLetter.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        verify(outboxRepository).delete(message);
+        assertEquals(1, deadLetter.getValue().getAttempts());
+        assertEquals("Resend rejected the email request with status 422", deadLetter.getValue().getLastError());
+    }
+
+    @Test
+    void backoff_isCappedAtMaximum() {
+        assertEquals(Duration.ofSeconds(30), outbox.backoff(1));
+        assertEquals(Duration.ofMinutes(2), outbox.backoff(3));
+        assertEquals(Duration.ofMinutes(10), outbox.backoff(12));
+    }
+
+    private EmailOutboxMessage message(Long id, int attempts) {
+        return EmailOutboxMessage.builder()
+                .id(id)
+                .recipient("guest@test.com")
+                .subject("Booking confirmed")
+                .html("<p>hi</p>")
+                .attempts(attempts)
+                .nextAttemptAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+    }
+}
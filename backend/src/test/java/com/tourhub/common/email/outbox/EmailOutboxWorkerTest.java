@@ -0,0 +1,200 @@
+package com.tourhub.common.email.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.common.email.EmailMessage;
+import com.tourhub.common.email.ResendClient;
+import com.tourhub.common.email.ResendRejectedException;
+import com.tourhub.common.email.ResendUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxWorkerTest {
+
+    @Mock
+    private EmailOutbox outbox;
+
+    @Mock
+    private ResendClient resendClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new EmailOutboxWorker(outbox, resendClient, meterRegistry);
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+        ReflectionTestUtils.setField(worker, "senderThreads", 2);
+        ReflectionTestUtils.setField(worker, "throttlePause", Duration.ofSeconds(30));
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void deliverDue_sendsClaimedMessagesInBatches() {
+        when(outbox.claimDue(any(Instant.class), eq(20))).thenReturn(messages(15));
+
+        worker.deliverDue();
+
+        verify(resendClient, times(2)).sendBatch(anyList());
+        verify(outbox).markSent(LongStream.rangeClosed(1, 10).boxed().toList());
+        verify(outbox).markSent(LongStream.rangeClosed(11, 15).boxed().toList());
+        assertEquals(15.0, meterRegistry.counter("email_outbox_sent_total", "application", "store_manager").count());
+        assertEquals(2, meterRegistry.get("email_outbox_batch_size").summary().count());
+    }
+
+    @Test
+    void deliverDue_reschedulesEveryMessageOfFailedBatch() {
+        when(outbox.claimDue(any(Instant.class), eq(20))).thenReturn(messages(2));
+        doThrow(new IllegalStateException("Resend failed with status 503"))
+                .when(resendClient).sendBatch(anyList());
+
+        worker.deliverDue();
+
+        verify(outbox).markFailed(eq(1L), eq("Resend failed with status 503"), any(Instant.class));
+        verify(outbox).markFailed(eq(2L), eq("Resend failed with status 503"), any(Instant.class));
+        verify(outbox, never()).markSent(anyList());
+        assertEquals(2.0, meterRegistry.counter("email_outbox_retried_total", "application", "store_manager").count());
+    }
+
+    @Test
+    void deliverDue_sendsIndividually_andDeadLettersOnlyTheRejectedMessage_whenBatchIsRejected() {
+        List<EmailOutboxMessage> batch = messages(3);
+        when(outbox.claimDue(any(Instant.class), eq(20))).thenReturn(batch);
+        doThrow(new ResendRejectedException(422)).when(resendClient).sendBatch(anyList());
+        lenient().doThrow(new ResendRejectedException(422)).when(resendClient)
+                .sendEmail(argThat((EmailMessage m) -> m != null && "guest2@test.com".equals(m.to())));
+
+        worker.deliverDue();
+
+        verify(resendClient, times(3)).sendEmail(any(EmailMessage.class));
+        verify(outbox).markSent(List.of(1L));
+        verify(outbox).markSent(List.of(3L));
+        verify(outbox).deadLetter(2L, "Resend rejected the email request with status 422");
+        verify(outbox, never()).markFailed(any(), anyString(), any());
+        assertEquals(2.0, meterRegistry.counter("email_outbox_sent_total", "application", "store_manager").count());
+        assertEquals(1.0, meterRegistry.counter("email_outbox_dead_lettered_total", "application", "store_manager").count());
+    }
+
+    @Test
+    void deliverDue_retriesIndividualMessage_whenItsSendFailsTransiently() {
+        when(outbox.claimDue(any(Instant.class), eq(20))).thenReturn(messages(2));
+        doThrow(new ResendRejectedException(422)).when(resendClient).sendBatch(anyList());
+        lenient().doThrow(new IllegalStateException("Resend failed with status 502")).when(resendClient)
+                .sendEmail(argThat((EmailMessage m) -> m != null && "guest1@test.com".equals(m.to())));
+
+        worker.deliverDue();
+
+        verify(outbox).markFailed(eq(1L), eq("Resend failed with status 502"), any(Instant.class));
+        verify(outbox).markSent(List.of(2L));
+        verify(outbox, never()).deadLetter(any(), anyString());
+    }
+
+    @Test
+    void deliverDue_postponesRemainingMessages_whenThrottledDuringFallback() {
+        when(outbox.claimDue(any(Instant.class), eq(20))).thenReturn(messages(3));
+        doThrow(new ResendRejectedException(422)).when(resendClient).sendBatch(anyList());
+        lenient().doThrow(new ResendUnavailableException("Resend is throttling requests")).when(resendClient)
+                .sendEmail(argThat((EmailMessage m) -> m != null && "guest2@test.com".equals(m.to())));
+
+        worker.deliverDue();
+
+        verify(outbox).markSent(List.of(1L));
+        verify(outbox).postpone(eq(List.of(2L, 3L)), any(Instant.class));
+        verify(resendClient, times(2)).sendEmail(any(EmailMessage.class));
+    }
+
+    @Test
+    void deliverDue_pausesWithoutSpendingAttempts_whenThrottled() {
+        when(outbox.claimDue(any(Instant.class), eq(20))).thenReturn(messages(3));
+        doThrow(new ResendUnavailableException("Resend is throttling requests"))
+                .when(resendClient).sendBatch(anyList());
+
+        worker.deliverDue();
+        worker.deliverDue();
+
+        verify(outbox).postpone(eq(List.of(1L, 2L, 3L)), any(Instant.class));
+        verify(outbox, never()).markFailed(any(), anyString(), any());
+        verify(outbox, times(1)).claimDue(any(Instant.class), anyInt());
+    }
+
+    @Test
+    void deliverDue_doesNothing_whenDisabled() {
+        ReflectionTestUtils.setField(worker, "enabled", false);
+
+        worker.deliverDue();
+
+        verify(outbox, never()).claimDue(any(Instant.class), anyInt());
+        verifyNoInteractions(resendClient);
+    }
+
+    @Test
+    void start_pollsOnOwnThread_andKeepsPollingAfterFailure() {
+        ReflectionTestUtils.setField(worker, "pollIntervalMs", 10L);
+        when(outbox.claimDue(any(Instant.class), anyInt()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(List.of());
+
+        worker.start();
+
+        verify(outbox, timeout(2000).atLeast(2)).claimDue(any(Instant.class), anyInt());
+    }
+
+    @Test
+    void start_doesNotPoll_whenDisabled() throws InterruptedException {
+        ReflectionTestUtils.setField(worker, "enabled", false);
+        ReflectionTestUtils.setField(worker, "pollIntervalMs", 10L);
+
+        worker.start();
+        Thread.sleep(50);
+
+        verifyNoInteractions(outbox);
+    }
+
+    private List<EmailOutboxMessage> messages(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> EmailOutboxMessage.builder()
+                        .id(id)
+                        .recipient("guest" + id + "@test.com")
+                        .subject("Subject")
+                        .html("<p>hi</p>")
+                        .nextAttemptAt(Instant.now())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.tourhub.common.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourhub.common.result.Result;
+import com.tourhub.order.dto.ReserveResponseDto;
+import com.tourhub.order.model.OrderStatus;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(repository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void replay_returnsEmpty_whenKeyIsNew() {
+        when(repository.findByScopeAndIdempotencyKey("RESERVE", "k1")).thenReturn(Optional.empty());
+
+        assertTrue(service.replay("RESERVE", "k1", "fp", ReserveResponseDto.class).isEmpty());
+    }
+
+    @Test
+    void replay_returnsRememberedResponse_forSameRequest() {
+        ReserveResponseDto response = new ReserveResponseDto(
+                5L, Instant.parse("2026-01-01T10:00:00Z"), OrderStatus.RESERVED, "token");
+
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        when(repository.saveAndFlush(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.remember("RESERVE", "k1", "fp", response);
+
+        when(repository.findByScopeAndIdempotencyKey("RESERVE", "k1")).thenReturn(Optional.of(saved.getValue()));
+
+        Result<ReserveResponseDto> replayed = service.replay("RESERVE", "k1", "fp", ReserveResponseDto.class)
+                .orElseThrow();
+
+        assertTrue(replayed.isOk());
+        assertEquals(response, replayed.get());
+    }
+
+    @Test
+    void replay_fails_whenKeyWasUsedForAnotherRequest() {
+        IdempotencyRecord stored = IdempotencyRecord.builder()
+                .scope("RESERVE")
+                .idempotencyKey("k1")
+                .requestFingerprint("other")
+                .responseBody("{}")
+                .build();
+
+        when(repository.findByScopeAndIdempotencyKey("RESERVE", "k1")).thenReturn(Optional.of(stored));
+
+        Result<ReserveResponseDto> replayed = service.replay("RESERVE", "k1", "fp", ReserveResponseDto.class)
+                .orElseThrow();
+
+        assertEquals("BAD_REQUEST", replayed.error().code());
+    }
+
+    @Test
+    void fingerprint_dependsOnCallerAndRequest() {
+        ReserveResponseDto body = new ReserveResponseDto(1L, null, OrderStatus.RESERVED, "t");
+
+        assertEquals(service.fingerprint("guest", body), service.fingerprint("guest", body));
+        assertNotEquals(service.fingerprint("guest", body), service.fingerprint("user-1", body));
+    }
+
+    @Test
+    void validateKey_rejectsBlankAndOversizedKeys() {
+        assertTrue(service.validateKey("abc").isOk());
+        assertTrue(service.validateKey(" ").isFail());
+        assertTrue(service.validateKey("x".repeat(256)).isFail());
+    }
+
+    @Test
+    void purgeCreatedBefore_delegatesToRepository() {
+        Instant cutoff = Instant.now();
+        when(repository.deleteCreatedBefore(any(Instant.class))).thenReturn(3);
+
+        assertEquals(3, service.purgeCreatedBefore(cutoff));
+        verify(repository).deleteCreatedBefore(cutoff);
+    }
+}
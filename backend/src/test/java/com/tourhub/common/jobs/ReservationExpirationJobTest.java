@@ -0,0 +1,55 @@
+package com.tourhub.common.jobs;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.order.service.ReservationExpirationService;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpirationJobTest {
+
+    @Mock
+    private ReservationExpirationService expirationService;
+
+    @InjectMocks
+    private ReservationExpirationJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+        ReflectionTestUtils.setField(job, "maxBatches", 5);
+    }
+
+    @Test
+    void expireReservations_keepsClaimingWhileBatchesAreFull() {
+        when(expirationService.expireBatch(any(Instant.class), eq(2)))
+                .thenReturn(2, 2, 1);
+
+        job.expireReservations();
+
+        verify(expirationService, times(3)).expireBatch(any(Instant.class), eq(2));
+    }
+
+    @Test
+    void expireReservations_stopsAtMaxBatches() {
+        when(expirationService.expireBatch(any(Instant.class), eq(2)))
+                .thenReturn(2);
+
+        job.expireReservations();
+
+        verify(expirationService, times(5)).expireBatch(any(Instant.class), eq(2));
+    }
+}
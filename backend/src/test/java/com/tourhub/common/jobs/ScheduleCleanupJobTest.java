@@ -0,0 +1,80 @@
+package com.tourhub.common.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.tour.repository.TourAvailabilityRepository;
+import com.tourhub.tour.service.ScheduleExpirationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCleanupJobTest {
+
+    @Mock
+    private ScheduleExpirationService expirationService;
+
+    @Mock
+    private TourAvailabilityRepository availabilityRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ScheduleCleanupJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new ScheduleCleanupJob(expirationService, availabilityRepository, meterRegistry);
+        ReflectionTestUtils.setField(job, "batchSize", 3);
+    }
+
+    @Test
+    void expirePastSchedules_drainsInBatchesAndRecordsMetrics() {
+        when(expirationService.expireBatch(any(LocalDate.class), any(LocalTime.class), eq(3)))
+                .thenReturn(3, 3, 1);
+
+        job.expirePastSchedules();
+
+        verify(expirationService, times(3)).expireBatch(any(LocalDate.class), any(LocalTime.class), eq(3));
+        assertEquals(7.0, meterRegistry.get("schedule_cleanup_expired_total").counter().count());
+        assertEquals(1, meterRegistry.get("schedule_cleanup_duration").timer().count());
+    }
+
+    @Test
+    void refreshAvailability_refreshesSummary_unlessDisabled() {
+        when(availabilityRepository.tryLockRefresh()).thenReturn(true);
+
+        ReflectionTestUtils.setField(job, "availabilityRefreshEnabled", true);
+        job.refreshAvailability();
+
+        ReflectionTestUtils.setField(job, "availabilityRefreshEnabled", false);
+        job.refreshAvailability();
+
+        verify(availabilityRepository, times(1)).refresh();
+    }
+
+    @Test
+    void refreshAvailability_skips_whenAnotherInstanceHoldsTheLock() {
+        ReflectionTestUtils.setField(job, "availabilityRefreshEnabled", true);
+        when(availabilityRepository.tryLockRefresh()).thenReturn(false);
+
+        job.refreshAvailability();
+
+        verify(availabilityRepository, never()).refresh();
+    }
+}
@@ -1,83 +1,69 @@
 package com.tourhub.common.jobs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.Mockito.argThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import com.tourhub.session.model.SessionStatus;
-import com.tourhub.tour.model.TourSchedule;
-import com.tourhub.session.model.TourSession;
-import com.tourhub.session.repository.TourSessionRepository;
+import com.tourhub.session.service.SessionExpirationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class SessionCleanupJobTest {
 
     @Mock
-    private TourSessionRepository sessionRepository;
+    private SessionExpirationService expirationService;
+
+    private SimpleMeterRegistry meterRegistry;
 
-    @InjectMocks
     private SessionCleanupJob sessionCleanupJob;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionCleanupJob = new SessionCleanupJob(expirationService, meterRegistry);
+        ReflectionTestUtils.setField(sessionCleanupJob, "batchSize", 2);
+    }
+
     @Test
-    void expirePastSessionsWithoutParticipants_marksOnlyPastZeroBookedSessionsAsExpired() {
-        TourSession pastEmptySession = buildSession(
-                SessionStatus.CONFIRMED,
-                LocalDate.now().minusDays(1),
-                LocalTime.NOON,
-                0);
-        TourSession futureEmptySession = buildSession(
-                SessionStatus.CONFIRMED,
-                LocalDate.now().plusDays(1),
-                LocalTime.NOON,
-                0);
-        TourSession pastBookedSession = buildSession(
-                SessionStatus.CONFIRMED,
-                LocalDate.now().minusDays(1),
-                LocalTime.NOON,
-                2);
-
-        when(sessionRepository.findByStatusIn(anyList()))
-                .thenReturn(List.of(pastEmptySession, futureEmptySession, pastBookedSession));
+    void expirePastSessionsWithoutParticipants_walksChunksFromLastSeenId() {
+        when(expirationService.expireBatch(any(LocalDate.class), any(LocalTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of(3L, 7L));
+        when(expirationService.expireBatch(any(LocalDate.class), any(LocalTime.class), eq(7L), eq(2)))
+                .thenReturn(List.of(9L));
 
         sessionCleanupJob.expirePastSessionsWithoutParticipants();
 
-        assertEquals(SessionStatus.EXPIRED, pastEmptySession.getStatus());
-        assertEquals(SessionStatus.CONFIRMED, futureEmptySession.getStatus());
-        assertEquals(SessionStatus.CONFIRMED, pastBookedSession.getStatus());
-
-        verify(sessionRepository).saveAll(argThat(sessions -> {
-            List<TourSession> savedSessions = new ArrayList<>();
-            sessions.forEach(savedSessions::add);
+        verify(expirationService).expireBatch(any(LocalDate.class), any(LocalTime.class), eq(0L), eq(2));
+        verify(expirationService).expireBatch(any(LocalDate.class), any(LocalTime.class), eq(7L), eq(2));
+        verifyNoMoreInteractions(expirationService);
 
-            return savedSessions.size() == 1 && savedSessions.contains(pastEmptySession);
-        }));
+        assertEquals(3.0, meterRegistry.get("session_cleanup_expired_total").counter().count());
+        assertEquals(1, meterRegistry.get("session_cleanup_duration").timer().count());
     }
 
-    private TourSession buildSession(
-            SessionStatus status,
-            LocalDate date,
-            LocalTime time,
-            Integer bookedParticipants) {
-        return TourSession.builder()
-                .status(status)
-                .schedule(TourSchedule.builder()
-                        .date(date)
-                        .time(time)
-                        .bookedParticipants(bookedParticipants)
-                        .build())
-                .build();
+    @Test
+    void expirePastSessionsWithoutParticipants_stopsOnEmptyChunk() {
+        when(expirationService.expireBatch(any(LocalDate.class), any(LocalTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of());
+
+        sessionCleanupJob.expirePastSessionsWithoutParticipants();
+
+        verifyNoMoreInteractions(expirationService);
+        assertEquals(0.0, meterRegistry.get("session_cleanup_expired_total").counter().count());
     }
 }
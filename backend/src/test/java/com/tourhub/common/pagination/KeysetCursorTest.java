@@ -0,0 +1,70 @@
+package com.tourhub.common.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_returnsSameCursor_afterEncodeWithTimestamp() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2026-03-10T12:00:00.123456789Z"), 42L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_returnsSameCursor_afterEncodeWithIdOnly() {
+        KeysetCursor cursor = new KeysetCursor(null, 7L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_returnsSameCursor_forPreEpochTimestamp() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("1969-12-31T23:59:59.5Z"), 1L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_throws_whenTokenIsNotBase64() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+    }
+
+    @Test
+    void decode_throws_whenTokenHasWrongNumberOfParts() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("1:2")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("1:2:3:4")));
+    }
+
+    @Test
+    void decode_throws_whenTokenPartsAreNotNumbers() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("x:0:5")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("0:0:x")));
+    }
+
+    @Test
+    void decode_throws_whenNanosAreOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("0:-1:5")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encodeRaw("0:1000000000:5")));
+    }
+
+    @Test
+    void decode_throws_whenTimestampIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode(encodeRaw("99999999999999999:0:5")));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -30,6 +30,7 @@ import com.tourhub.payment.repository.PaymentLineRepository;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtAuthenticationFilter;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.order.service.CancellationService;
 import com.tourhub.order.service.OrderService;
 import com.tourhub.common.result.ApiError;
@@ -66,6 +67,9 @@ class OrderControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         /* ---------------- CREATE ORDER ---------------- */
 
         @Test
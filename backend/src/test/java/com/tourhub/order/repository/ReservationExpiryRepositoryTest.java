@@ -0,0 +1,316 @@
+package com.tourhub.order.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tourhub.common.audit.AuditRevisions;
+import com.tourhub.order.model.Order;
+import com.tourhub.order.model.OrderItem;
+import com.tourhub.order.model.OrderStatus;
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.testutil.PostgresRepositoryTest;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Commits its data: the SKIP LOCKED test needs two real connections.
+@PostgresRepositoryTest
+@Import(AuditRevisions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationExpiryRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuditRevisions auditRevisions;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Order> orders = new ArrayList<>();
+
+    private Instant now;
+    private Shop shop;
+    private Tour tour;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.now();
+
+        shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        tour = tourRepository.save(Tour.builder()
+                .title("Tour")
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(10)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .shop(shop)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orders);
+        scheduleRepository.deleteAll(scheduleRepository.findAll().stream()
+                .filter(schedule -> schedule.getTour().getId().equals(tour.getId()))
+                .toList());
+        tourRepository.delete(tour);
+        shopRepository.delete(shop);
+    }
+
+    @Test
+    void claimExpiredReservationIds_returnsOnlyExpiredPendingOrders_inIdOrder() {
+        TourSchedule schedule = schedule(10);
+
+        Order reserved = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+        Order finalized = order(OrderStatus.FINALIZED, now.minusSeconds(30), schedule, 1);
+        order(OrderStatus.RESERVED, now.plusSeconds(600), schedule, 1);
+        order(OrderStatus.PAID, now.minusSeconds(60), schedule, 1);
+
+        List<Long> claimed = inTransaction(() -> orderRepository.claimExpiredReservationIds(now, 10));
+
+        assertEquals(List.of(reserved.getId(), finalized.getId()), ownIds(claimed));
+    }
+
+    @Test
+    void claimExpiredReservationIds_respectsLimit() {
+        TourSchedule schedule = schedule(10);
+
+        Order first = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+        order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+
+        List<Long> claimed = inTransaction(() -> orderRepository.claimExpiredReservationIds(now, 1));
+
+        assertEquals(List.of(first.getId()), claimed);
+    }
+
+    @Test
+    void claimExpiredReservationIds_skipsOrdersLockedByAnotherTransaction() throws Exception {
+        TourSchedule schedule = schedule(10);
+
+        Order locked = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+        Order free = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+
+        try (Connection checkout = dataSource.getConnection()) {
+            checkout.setAutoCommit(false);
+
+            try (PreparedStatement lock = checkout.prepareStatement(
+                    "SELECT id FROM orders WHERE id = ? FOR UPDATE")) {
+                lock.setLong(1, locked.getId());
+                lock.executeQuery().close();
+            }
+
+            List<Long> claimed = inTransaction(() -> orderRepository.claimExpiredReservationIds(now, 10));
+
+            assertEquals(List.of(free.getId()), ownIds(claimed));
+
+            checkout.rollback();
+        }
+    }
+
+    @Test
+    void transitionStatus_changesNothing_onceTheReservationHasExpired() {
+        TourSchedule schedule = schedule(1);
+        Order order = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+
+        inTransaction(() -> orderRepository.updateStatusByIds(List.of(order.getId()), OrderStatus.EXPIRED, now));
+
+        int updated = inTransaction(() -> orderRepository.transitionStatus(
+                order.getId(), OrderStatus.RESERVED, OrderStatus.FINALIZED));
+
+        assertEquals(0, updated);
+        assertEquals(OrderStatus.EXPIRED, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void transitionStatus_keepsTheOrderOutOfTheExpiryClaim_untilCommit() {
+        TourSchedule schedule = schedule(1);
+        Order order = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+
+        TransactionTemplate expiry = new TransactionTemplate(transactionManager);
+        expiry.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        List<Long> claimedDuringFinalize = inTransaction(() -> {
+            assertEquals(1, orderRepository.transitionStatus(
+                    order.getId(), OrderStatus.RESERVED, OrderStatus.FINALIZED));
+
+            return expiry.execute(status -> orderRepository.claimExpiredReservationIds(now, 10));
+        });
+
+        assertEquals(List.of(), ownIds(claimedDuringFinalize));
+    }
+
+    @Test
+    void releaseReservedForOrders_decrementsEachScheduleOnceByItsTotal() {
+        TourSchedule busy = schedule(6);
+        TourSchedule quiet = schedule(2);
+
+        Order first = order(OrderStatus.RESERVED, now.minusSeconds(60), busy, 2);
+        Order second = order(OrderStatus.RESERVED, now.minusSeconds(60), busy, 3);
+        Order third = order(OrderStatus.RESERVED, now.minusSeconds(60), quiet, 2);
+
+        int updated = inTransaction(() -> scheduleRepository.releaseReservedForOrders(
+                List.of(first.getId(), second.getId(), third.getId())));
+
+        assertEquals(2, updated);
+        assertEquals(1, reservedSeats(busy));
+        assertEquals(0, reservedSeats(quiet));
+    }
+
+    @Test
+    void releaseReservedForOrders_neverDropsBelowZero() {
+        TourSchedule schedule = schedule(1);
+
+        Order order = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 3);
+
+        inTransaction(() -> scheduleRepository.releaseReservedForOrders(List.of(order.getId())));
+
+        assertEquals(0, reservedSeats(schedule));
+    }
+
+    @Test
+    void bulkExpiry_stampsUpdatedAt_andIsReadableFromTheAuditTrail() {
+        TourSchedule schedule = schedule(1);
+        Order order = order(OrderStatus.RESERVED, now.minusSeconds(60), schedule, 1);
+        List<Long> ids = List.of(order.getId());
+        Instant expiredAt = now.truncatedTo(ChronoUnit.MICROS).plusSeconds(5);
+
+        inTransaction(() -> {
+            orderItemRepository.updateStatusByOrderIds(ids, OrderStatus.EXPIRED);
+            orderRepository.updateStatusByIds(ids, OrderStatus.EXPIRED, expiredAt);
+
+            int revision = auditRevisions.current();
+            orderRepository.writeAuditRows(ids, revision);
+            return orderItemRepository.writeAuditRowsByOrderIds(ids, revision);
+        });
+
+        assertEquals(expiredAt, orderRepository.findById(order.getId()).orElseThrow().getUpdatedAt());
+
+        assertEquals(OrderStatus.EXPIRED, latestAudited(Order.class, AuditEntity.id().eq(order.getId()), "status"));
+        assertEquals(expiredAt, latestAudited(Order.class, AuditEntity.id().eq(order.getId()), "updatedAt"));
+        assertEquals(OrderStatus.EXPIRED,
+                latestAudited(OrderItem.class, AuditEntity.relatedId("order").eq(order.getId()), "status"));
+    }
+
+    // Projections only: the Lombok entities cannot be hashed once Envers
+    // wires up their bidirectional collections.
+    private Object latestAudited(Class<?> entity, AuditCriterion criterion, String property) {
+        return inTransaction(() -> AuditReaderFactory.get(entityManager).createQuery()
+                .forRevisionsOfEntity(entity, true, false)
+                .add(criterion)
+                .addProjection(AuditEntity.property(property))
+                .addOrder(AuditEntity.revisionNumber().desc())
+                .setMaxResults(1)
+                .getSingleResult());
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    // Other test classes share the database; only look at this test's orders.
+    private List<Long> ownIds(List<Long> claimed) {
+        List<Long> own = orders.stream().map(Order::getId).toList();
+        return claimed.stream().filter(own::contains).toList();
+    }
+
+    private int reservedSeats(TourSchedule schedule) {
+        return scheduleRepository.findById(schedule.getId()).orElseThrow().getReservedParticipants();
+    }
+
+    private TourSchedule schedule(int reserved) {
+        return scheduleRepository.save(TourSchedule.builder()
+                .tour(tour)
+                .date(LocalDate.now().plusDays(1))
+                .maxParticipants(10)
+                .bookedParticipants(0)
+                .reservedParticipants(reserved)
+                .status("ACTIVE")
+                .build());
+    }
+
+    private Order order(OrderStatus status, Instant expiresAt, TourSchedule schedule, int participants) {
+        Order order = Order.builder()
+                .status(status)
+                .paymentMethod("CARD")
+                .totalPrice(BigDecimal.TEN)
+                .expiresAt(expiresAt)
+                .build();
+
+        order.getOrderItems().add(OrderItem.builder()
+                .order(order)
+                .tour(tour)
+                .schedule(schedule)
+                .shopId(shop.getId())
+                .tourTitle(tour.getTitle())
+                .scheduledAt(LocalDateTime.now().plusDays(1))
+                .participants(participants)
+                .tourSnapshot("{}")
+                .name("Guest")
+                .email("guest@example.com")
+                .phone("12345678")
+                .pricePaid(BigDecimal.TEN)
+                .status(status)
+                .build());
+
+        Order saved = orderRepository.save(order);
+        orders.add(saved);
+        return saved;
+    }
+}
@@ -1,18 +1,24 @@
 package com.tourhub.order.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -24,12 +30,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -66,10 +75,14 @@ import com.tourhub.order.repository.OrderRepository;
 import com.tourhub.shop.repository.ShopUserRepository;
 import com.tourhub.tour.repository.TourRepository;
 import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.ScheduleLockService;
+import com.tourhub.tour.service.TourCacheInvalidator;
 import com.tourhub.session.repository.TourSessionRepository;
 import com.tourhub.user.repository.UserRepository;
 import com.tourhub.security.CurrentUserService;
 import com.tourhub.security.CustomUserDetails;
+import com.tourhub.common.pagination.CursorPage;
+import com.tourhub.common.pagination.KeysetCursor;
 import com.tourhub.common.result.Result;
 import com.tourhub.payment.service.PaymentService;
 
@@ -110,9 +123,27 @@ public class OrderServiceTest {
     @Mock
     private PaymentService paymentService;
 
+    @Mock
+    private TourCacheInvalidator tourCacheInvalidator;
+
+    @Mock
+    private ScheduleLockService scheduleLockService;
+
+    @Mock
+    private SeatAdmissionGate seatAdmissionGate;
+
+    @Mock
+    private SeatAdmissionGate.Admission admission;
+
     @InjectMocks
     private OrderService service;
 
+    @BeforeEach
+    void admitByDefault() {
+        lenient().when(admission.isAdmitted()).thenReturn(true);
+        lenient().when(seatAdmissionGate.tryAdmit(any())).thenReturn(admission);
+    }
+
     @Test
     void searchOrdersForAdmin_returnsPagedResults_whenFiltersAreValid() {
         Order order = new Order();
@@ -139,6 +170,55 @@ public class OrderServiceTest {
         assertSame(dto, result.get().getContent().get(0));
     }
 
+    @Test
+    void searchOrdersForAdminByCursor_returnsNextCursor_whenMoreRowsExist() {
+        Instant createdAt = Instant.parse("2026-03-10T12:00:00.123456Z");
+        Order newest = Order.builder().id(3L).createdAt(createdAt).build();
+        Order middle = Order.builder().id(2L).createdAt(createdAt).build();
+        Order oldest = Order.builder().id(1L).createdAt(createdAt.minusSeconds(60)).build();
+
+        doReturn(List.of(newest, middle, oldest))
+                .when(orderRepository).findBy(any(Specification.class), any());
+        when(orderMapper.toDto(any(Order.class))).thenReturn(new OrderResponseDto());
+
+        Result<CursorPage<OrderResponseDto>> result = service.searchOrdersForAdminByCursor(
+                null, null, null, null, "", 2);
+
+        assertTrue(result.isOk());
+        assertEquals(2, result.get().content().size());
+        assertTrue(result.get().hasNext());
+        assertEquals(
+                new KeysetCursor(createdAt, 2L),
+                KeysetCursor.decode(result.get().nextCursor()));
+    }
+
+    @Test
+    void searchOrdersForAdminByCursor_returnsLastPage_withoutCursor() {
+        Order order = Order.builder().id(1L).createdAt(Instant.now()).build();
+
+        doReturn(List.of(order))
+                .when(orderRepository).findBy(any(Specification.class), any());
+        when(orderMapper.toDto(order)).thenReturn(new OrderResponseDto());
+
+        Result<CursorPage<OrderResponseDto>> result = service.searchOrdersForAdminByCursor(
+                null, null, null, null, new KeysetCursor(Instant.now(), 5L).encode(), 2);
+
+        assertTrue(result.isOk());
+        assertEquals(1, result.get().content().size());
+        assertFalse(result.get().hasNext());
+        assertNull(result.get().nextCursor());
+    }
+
+    @Test
+    void searchOrdersForAdminByCursor_returnsFail_whenCursorIsMalformed() {
+        Result<CursorPage<OrderResponseDto>> result = service.searchOrdersForAdminByCursor(
+                null, null, null, null, "not-a-cursor", 10);
+
+        assertTrue(result.isFail());
+        assertEquals("BAD_REQUEST", result.error().code());
+        verify(orderRepository, never()).findBy(any(Specification.class), any());
+    }
+
     @Test
     void searchOrdersForAdmin_usesSafeDefaultPattern_whenQueryIsMissing() {
         when(orderRepository.findAll(
@@ -1044,19 +1124,25 @@ public class OrderServiceTest {
 
         TourSchedule schedule = new TourSchedule();
         schedule.setId(1L);
+        schedule.setTour(tour);
         schedule.setBookedParticipants(10);
         schedule.setMaxParticipants(10);
 
-        when(tourRepository.findById(1L))
-                .thenReturn(Optional.of(tour));
+        when(tourRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(tour));
+
+        when(tourScheduleRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(schedule));
 
-        when(tourScheduleRepository.findByIdForUpdate(1L))
-                .thenReturn(Optional.of(schedule));
+        when(tourScheduleRepository.tryBookSeats(1L, 2, false))
+                .thenReturn(0);
 
         Result<OrderResponseDto> result = service.createOrder(dto, null);
 
         assertTrue(result.isFail());
         assertEquals("BAD_REQUEST", result.error().code());
+        verify(seatAdmissionGate).tryAdmit(Map.of(1L, 2));
+        verify(admission).release();
 
         // Optional but good: ensure session logic was NOT touched
         verify(tourSessionRepository, never()).findByScheduleId(any());
@@ -1087,23 +1173,158 @@ public class OrderServiceTest {
         schedule.setReservedParticipants(2);
         schedule.setMaxParticipants(10);
 
-        when(tourRepository.findById(1L))
-                .thenReturn(Optional.of(requestedTour));
+        when(tourRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(requestedTour));
 
-        when(tourScheduleRepository.findByIdForUpdate(1L))
-                .thenReturn(Optional.of(schedule));
+        when(tourScheduleRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(schedule));
 
         Result<OrderResponseDto> result = service.createOrder(dto, null);
 
         assertTrue(result.isFail());
         assertEquals("BAD_REQUEST", result.error().code());
         assertEquals("Selected schedule does not belong to the requested tour", result.error().message());
-        assertEquals(1, schedule.getBookedParticipants());
-        assertEquals(2, schedule.getReservedParticipants());
+        verify(tourScheduleRepository, never()).tryBookSeats(any(), anyInt(), anyBoolean());
+
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void createOrder_returnsFail_withoutClaimingSeats_whenAnyTourIsMissing() {
+
+        OrderItemCreateRequestDto second = new OrderItemCreateRequestDto();
+        second.setTourId(2L);
+        second.setScheduleId(2L);
+        second.setParticipants(1);
+
+        OrderCreateRequestDto dto = validCreateOrderDto();
+        dto.setItems(List.of(dto.getItems().get(0), second));
+
+        Tour tour = new Tour();
+        tour.setId(1L);
+
+        TourSchedule schedule = new TourSchedule();
+        schedule.setId(1L);
+        schedule.setTour(tour);
+
+        when(tourRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(tour));
+        when(tourScheduleRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(schedule));
+
+        Result<OrderResponseDto> result = service.createOrder(dto, null);
+
+        assertTrue(result.isFail());
+        assertEquals("NOT_FOUND", result.error().code());
+        verify(tourScheduleRepository, never()).tryBookSeats(any(), anyInt(), anyBoolean());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void createOrder_releasesEarlierItems_whenLaterScheduleIsFull() {
+
+        OrderItemCreateRequestDto second = new OrderItemCreateRequestDto();
+        second.setTourId(1L);
+        second.setScheduleId(2L);
+        second.setParticipants(3);
+        second.setPreferredLanguage("EN");
+
+        OrderCreateRequestDto dto = validCreateOrderDto();
+        dto.setItems(List.of(dto.getItems().get(0), second));
+
+        Shop shop = new Shop();
+        shop.setId(1L);
+
+        Tour tour = new Tour();
+        tour.setId(1L);
+        tour.setType("PUBLIC");
+        tour.setPrice(BigDecimal.TEN);
+        tour.setShop(shop);
+
+        TourSchedule open = new TourSchedule();
+        open.setId(1L);
+        open.setTour(tour);
+        open.setDate(LocalDate.now().plusDays(1));
+        open.setTime(LocalTime.NOON);
+        open.setMaxParticipants(10);
 
+        TourSchedule full = new TourSchedule();
+        full.setId(2L);
+        full.setTour(tour);
+        full.setMaxParticipants(10);
+
+        when(tourRepository.findAllById(List.of(1L))).thenReturn(List.of(tour));
+        when(tourScheduleRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(open, full));
+        when(tourScheduleRepository.tryBookSeats(1L, 2, false)).thenReturn(1);
+        when(tourScheduleRepository.tryBookSeats(2L, 3, false)).thenReturn(0);
+
+        Result<OrderResponseDto> result = service.createOrder(dto, null);
+
+        assertTrue(result.isFail());
+        assertEquals("Not enough spots available for this schedule", result.error().message());
+        verify(tourScheduleRepository).releaseBookedSeats(1L, 2);
+        verify(tourScheduleRepository, never()).releaseBookedSeats(eq(2L), anyInt());
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    void createOrder_claimsSeatsInScheduleIdOrder_withoutLockingUpFront() {
+
+        OrderItemCreateRequestDto later = new OrderItemCreateRequestDto();
+        later.setTourId(1L);
+        later.setScheduleId(2L);
+        later.setParticipants(1);
+
+        OrderCreateRequestDto dto = validCreateOrderDto();
+        dto.setItems(List.of(later, dto.getItems().get(0)));
+
+        Shop shop = new Shop();
+        shop.setId(1L);
+
+        Tour tour = new Tour();
+        tour.setId(1L);
+        tour.setType("PUBLIC");
+        tour.setPrice(BigDecimal.TEN);
+        tour.setShop(shop);
+
+        TourSchedule first = new TourSchedule();
+        first.setId(1L);
+        first.setTour(tour);
+        first.setDate(LocalDate.now().plusDays(1));
+        first.setTime(LocalTime.NOON);
+
+        TourSchedule second = new TourSchedule();
+        second.setId(2L);
+        second.setTour(tour);
+        second.setDate(LocalDate.now().plusDays(2));
+        second.setTime(LocalTime.NOON);
+
+        when(tourRepository.findAllById(List.of(1L))).thenReturn(List.of(tour));
+        when(tourScheduleRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(second, first));
+        when(tourScheduleRepository.tryBookSeats(anyLong(), anyInt(), anyBoolean())).thenReturn(1);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(new OrderResponseDto());
+
+        Result<OrderResponseDto> result = service.createOrder(dto, null);
+
+        assertTrue(result.isOk());
+
+        InOrder claims = inOrder(tourScheduleRepository);
+        claims.verify(tourScheduleRepository).tryBookSeats(1L, 2, false);
+        claims.verify(tourScheduleRepository).tryBookSeats(2L, 1, false);
+
+        verifyNoInteractions(scheduleLockService);
+    }
+
+    @Test
+    void createOrder_returnsFail_withoutTouchingSchedules_whenGateRejects() {
+        when(admission.isAdmitted()).thenReturn(false);
+
+        Result<OrderResponseDto> result = service.createOrder(validCreateOrderDto(), null);
+
+        assertTrue(result.isFail());
+        assertEquals("Not enough spots available for this schedule", result.error().message());
+        verifyNoInteractions(tourRepository, tourScheduleRepository, orderRepository);
+    }
+
     @Test
     void createOrder_returnsFail_whenUserNotFound() {
         UUID userId = UUID.randomUUID();
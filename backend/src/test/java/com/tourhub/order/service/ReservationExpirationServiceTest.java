@@ -0,0 +1,85 @@
+package com.tourhub.order.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tourhub.common.audit.AuditRevisions;
+import com.tourhub.order.model.OrderStatus;
+import com.tourhub.order.repository.OrderItemRepository;
+import com.tourhub.order.repository.OrderRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpirationServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private TourScheduleRepository tourScheduleRepository;
+
+    @Mock
+    private TourCacheInvalidator cacheInvalidator;
+
+    @Mock
+    private SeatAdmissionGate seatAdmissionGate;
+
+    @Mock
+    private AuditRevisions auditRevisions;
+
+    @InjectMocks
+    private ReservationExpirationService service;
+
+    @Test
+    void expireBatch_releasesSeatsAndExpiresClaimedOrders() {
+        Instant now = Instant.now();
+        List<Long> orderIds = List.of(10L, 11L);
+
+        when(orderRepository.claimExpiredReservationIds(now, 100)).thenReturn(orderIds);
+        when(orderItemRepository.findTourIdsByOrderIds(orderIds)).thenReturn(List.of(1L));
+        when(orderItemRepository.findScheduleIdsByOrderIds(orderIds)).thenReturn(List.of(5L));
+        when(auditRevisions.current()).thenReturn(7);
+
+        int expired = service.expireBatch(now, 100);
+
+        assertEquals(2, expired);
+        verify(tourScheduleRepository).releaseReservedForOrders(orderIds);
+        verify(orderItemRepository).updateStatusByOrderIds(orderIds, OrderStatus.EXPIRED);
+        verify(orderRepository).updateStatusByIds(orderIds, OrderStatus.EXPIRED, now);
+        verify(orderRepository).writeAuditRows(orderIds, 7);
+        verify(orderItemRepository).writeAuditRowsByOrderIds(orderIds, 7);
+        verify(cacheInvalidator).evictSchedules(List.of(1L));
+        verify(seatAdmissionGate).reconcile(List.of(5L));
+    }
+
+    @Test
+    void expireBatch_doesNothing_whenNothingClaimed() {
+        when(orderRepository.claimExpiredReservationIds(any(Instant.class), anyInt()))
+                .thenReturn(List.of());
+
+        int expired = service.expireBatch(Instant.now(), 100);
+
+        assertEquals(0, expired);
+        verify(tourScheduleRepository, never()).releaseReservedForOrders(anyList());
+        verifyNoInteractions(orderItemRepository, cacheInvalidator, seatAdmissionGate, auditRevisions);
+    }
+}
@@ -0,0 +1,79 @@
+package com.tourhub.order.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.order.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpiryTimerTest {
+
+    @Mock
+    private ReservationExpirationService expirationService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private ReservationExpiryTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timer, "enabled", true);
+        ReflectionTestUtils.setField(timer, "batchSize", 200);
+        ReflectionTestUtils.setField(timer, "maxBatches", 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void start_expiresOverdueReservationsFromDatabase() {
+        when(orderRepository.findPendingExpiries(anyList()))
+                .thenReturn(List.of(Instant.now().minusSeconds(30)));
+
+        timer.start();
+
+        verify(expirationService, timeout(3000)).expireBatch(any(Instant.class), anyInt());
+    }
+
+    @Test
+    void schedule_firesShortlyAfterDeadline() {
+        when(orderRepository.findPendingExpiries(anyList())).thenReturn(List.of());
+
+        timer.start();
+        timer.schedule(Instant.now());
+
+        verify(expirationService, timeout(3000)).expireBatch(any(Instant.class), anyInt());
+    }
+
+    @Test
+    void schedule_keepsOneEntryPerSecond() {
+        Instant deadline = Instant.parse("2030-01-01T10:00:00.100Z");
+
+        timer.schedule(deadline);
+        timer.schedule(deadline.plusMillis(500));
+        timer.schedule(deadline.plusSeconds(2));
+
+        assertEquals(2, timer.pendingDeadlines());
+    }
+}
@@ -0,0 +1,89 @@
+package com.tourhub.order.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tourhub.common.idempotency.IdempotencyService;
+import com.tourhub.common.result.ApiError;
+import com.tourhub.common.result.Result;
+import com.tourhub.order.dto.OrderCreateRequestDto;
+import com.tourhub.order.dto.OrderItemCreateRequestDto;
+import com.tourhub.order.dto.ReserveResponseDto;
+import com.tourhub.order.model.OrderStatus;
+import com.tourhub.order.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @InjectMocks
+    private ReservationService service;
+
+    @Test
+    void reserve_replaysStoredResponse_withoutBuildingAnotherOrder() {
+        OrderCreateRequestDto dto = reservation();
+        ReserveResponseDto original = new ReserveResponseDto(7L, null, OrderStatus.RESERVED, "token");
+
+        when(idempotencyService.validateKey("key-1")).thenReturn(Result.ok());
+        when(idempotencyService.fingerprint("guest", dto)).thenReturn("fp");
+        when(idempotencyService.replay(ReservationService.IDEMPOTENCY_SCOPE, "key-1", "fp", ReserveResponseDto.class))
+                .thenReturn(Optional.of(Result.ok(original)));
+
+        Result<ReserveResponseDto> result = service.reserve(dto, null, "key-1");
+
+        assertSame(original, result.get());
+        verifyNoInteractions(orderRepository);
+        verify(orderService, never()).buildOrder(any(), any(), any(), anyBoolean());
+        verify(idempotencyService, never()).remember(any(), any(), any(), any());
+    }
+
+    @Test
+    void reserve_returnsFail_whenKeyIsInvalid() {
+        when(idempotencyService.validateKey(" "))
+                .thenReturn(Result.fail(ApiError.badRequest("invalid key")));
+
+        Result<ReserveResponseDto> result = service.reserve(reservation(), null, " ");
+
+        assertEquals("BAD_REQUEST", result.error().code());
+        verifyNoInteractions(orderService);
+        verify(idempotencyService, never()).replay(eq(ReservationService.IDEMPOTENCY_SCOPE), any(), any(), any());
+    }
+
+    private OrderCreateRequestDto reservation() {
+        OrderItemCreateRequestDto item = new OrderItemCreateRequestDto();
+        item.setTourId(1L);
+        item.setScheduleId(1L);
+        item.setParticipants(2);
+
+        OrderCreateRequestDto dto = new OrderCreateRequestDto();
+        dto.setName("John Doe");
+        dto.setEmail("john@test.com");
+        dto.setItems(List.of(item));
+
+        return dto;
+    }
+}
@@ -0,0 +1,149 @@
+package com.tourhub.order.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.tour.event.ScheduleCapacityChangedEvent;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SeatAdmissionGateTest {
+
+    @Mock
+    private TourScheduleRepository scheduleRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SeatAdmissionGate gate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gate = new SeatAdmissionGate(scheduleRepository, meterRegistry);
+
+        ReflectionTestUtils.setField(gate, "enabled", true);
+        ReflectionTestUtils.setField(gate, "maximumSize", 100L);
+        ReflectionTestUtils.setField(gate, "ttl", Duration.ofMinutes(1));
+        gate.init();
+    }
+
+    @Test
+    void tryAdmit_usesCounterWithoutQuery_whileSeatsRemain() {
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(4);
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 2)).isAdmitted());
+        assertTrue(gate.tryAdmit(Map.of(1L, 2)).isAdmitted());
+
+        verify(scheduleRepository, times(1)).findAvailableSeats(1L);
+    }
+
+    @Test
+    void tryAdmit_rechecksDatabase_beforeRejecting() {
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(4, 0);
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 2)).isAdmitted());
+        assertTrue(gate.tryAdmit(Map.of(1L, 2)).isAdmitted());
+        assertFalse(gate.tryAdmit(Map.of(1L, 1)).isAdmitted());
+
+        verify(scheduleRepository, times(2)).findAvailableSeats(1L);
+        assertEquals(2.0, meterRegistry.counter("checkout_admission_admitted_total",
+                "application", "store_manager").count());
+        assertEquals(1.0, meterRegistry.counter("checkout_admission_rejected_total",
+                "application", "store_manager").count());
+    }
+
+    @Test
+    void tryAdmit_admits_whenSeatsWereReleasedElsewhere() {
+        // Another instance released two seats; this counter never heard of it.
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(1, 2);
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 1)).isAdmitted());
+        assertTrue(gate.tryAdmit(Map.of(1L, 2)).isAdmitted());
+    }
+
+    @Test
+    void onCapacityChanged_dropsCounter() {
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(5, 8);
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 1)).isAdmitted());
+
+        gate.onCapacityChanged(new ScheduleCapacityChangedEvent(1L));
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 8)).isAdmitted());
+        verify(scheduleRepository, times(2)).findAvailableSeats(1L);
+    }
+
+    @Test
+    void tryAdmit_takesNothing_whenOneScheduleIsShort() {
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(5);
+        when(scheduleRepository.findAvailableSeats(2L)).thenReturn(1);
+
+        assertFalse(gate.tryAdmit(Map.of(1L, 3, 2L, 2)).isAdmitted());
+        verify(scheduleRepository, times(2)).findAvailableSeats(2L);
+
+        // The seats of schedule 1 were handed back.
+        assertTrue(gate.tryAdmit(Map.of(1L, 5)).isAdmitted());
+    }
+
+    @Test
+    void release_givesSeatsBackOnce() {
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(2, 0);
+
+        SeatAdmissionGate.Admission admission = gate.tryAdmit(Map.of(1L, 2));
+        admission.release();
+        admission.release();
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 2)).isAdmitted());
+        assertFalse(gate.tryAdmit(Map.of(1L, 1)).isAdmitted());
+    }
+
+    @Test
+    void tryAdmit_admitsUnknownSchedule() {
+        when(scheduleRepository.findAvailableSeats(9L)).thenReturn(null);
+
+        assertTrue(gate.tryAdmit(Map.of(9L, 1)).isAdmitted());
+    }
+
+    @Test
+    void reconcile_reseedsFromDatabase() {
+        when(scheduleRepository.findAvailableSeats(1L)).thenReturn(3, 3);
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 1)).isAdmitted());
+
+        gate.reconcile(List.of(1L));
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 3)).isAdmitted());
+        verify(scheduleRepository, times(2)).findAvailableSeats(1L);
+    }
+
+    @Test
+    void tryAdmit_admits_whenScheduleDisappearsOnRecheck() {
+        when(scheduleRepository.findAvailableSeats(9L)).thenReturn(0, (Integer) null);
+
+        assertTrue(gate.tryAdmit(Map.of(9L, 1)).isAdmitted());
+    }
+
+    @Test
+    void tryAdmit_admitsEverything_whenDisabled() {
+        ReflectionTestUtils.setField(gate, "enabled", false);
+
+        assertTrue(gate.tryAdmit(Map.of(1L, 1000)).isAdmitted());
+    }
+}
@@ -0,0 +1,137 @@
+package com.tourhub.order.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.tourhub.order.dto.OrderCreateRequestDto;
+import com.tourhub.order.dto.OrderItemCreateRequestDto;
+import com.tourhub.order.model.Order;
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.common.result.Result;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatReservationConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 10;
+    private static final int SEATS_PER_ORDER = 2;
+    private static final int BUYERS = 20;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Test
+    void reserve_neverOverbooks_underConcurrentCheckouts() throws Exception {
+        Tour tour = createTour();
+        TourSchedule schedule = scheduleRepository.save(TourSchedule.builder()
+                .tour(tour)
+                .date(LocalDate.now().plusDays(7))
+                .time(LocalTime.NOON)
+                .maxParticipants(MAX_PARTICIPANTS)
+                .status("ACTIVE")
+                .build());
+
+        ExecutorService pool = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < BUYERS; i++) {
+                attempts.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        Result<Order> result = reservationService.reserve(
+                                reservation(tour.getId(), schedule.getId()), null);
+                        return result.isOk();
+                    } catch (RuntimeException e) {
+                        // Lock timeouts count as a failed checkout, not as a seat.
+                        return false;
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> attempt : attempts) {
+                if (attempt.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+
+            TourSchedule after = scheduleRepository.findById(schedule.getId()).orElseThrow();
+
+            assertTrue(succeeded > 0);
+            assertTrue(after.getReservedParticipants() <= MAX_PARTICIPANTS);
+            assertEquals(succeeded * SEATS_PER_ORDER, after.getReservedParticipants());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private OrderCreateRequestDto reservation(Long tourId, Long scheduleId) {
+        OrderItemCreateRequestDto item = new OrderItemCreateRequestDto();
+        item.setTourId(tourId);
+        item.setScheduleId(scheduleId);
+        item.setParticipants(SEATS_PER_ORDER);
+        item.setPreferredLanguage("EN");
+
+        OrderCreateRequestDto dto = new OrderCreateRequestDto();
+        dto.setName("John Doe");
+        dto.setEmail("john@test.com");
+        dto.setPhone("12345678");
+        dto.setPaymentMethod("CARD");
+        dto.setItems(List.of(item));
+
+        return dto;
+    }
+
+    private Tour createTour() {
+        Shop shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        return tourRepository.save(Tour.builder()
+                .title("Tour")
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(MAX_PARTICIPANTS)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .shop(shop)
+                .build());
+    }
+}
@@ -22,6 +22,7 @@ import com.tourhub.payment.dto.PaymentLineResponseDto;
 import com.tourhub.payment.dto.PaymentResponseDto;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.payment.service.PaymentService;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
@@ -47,6 +48,9 @@ class PaymentControllerTest {
     @MockitoBean
     MeterRegistry meterRegistry;
 
+    @MockitoBean
+    private RateLimitStore rateLimitStore;
+
     @Test
     void getPaymentLinesForAdmin_returnsOk() throws Exception {
         when(paymentService.searchPaymentLinesForAdmin(
@@ -14,6 +14,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.tourhub.payment.dto.PaymentResponseDto;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.payment.service.PaymentService;
 import com.tourhub.common.result.Result;
 
@@ -38,6 +39,9 @@ class PublicPaymentControllerTest {
     @MockitoBean
     MeterRegistry meterRegistry;
 
+    @MockitoBean
+    private RateLimitStore rateLimitStore;
+
     @Test
     void getByOrderId_returnsOk() throws Exception {
         when(paymentService.getPublicByOrderId(1L, "token-123"))
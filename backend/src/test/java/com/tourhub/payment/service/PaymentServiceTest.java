@@ -1,11 +1,19 @@
 package com.tourhub.payment.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +35,8 @@ import com.tourhub.payment.dto.PaymentResponseDto;
 import com.tourhub.payment.mapper.PaymentLineMapper;
 import com.tourhub.payment.mapper.PaymentMapper;
 import com.tourhub.order.model.Order;
+import com.tourhub.order.model.OrderStatus;
+import com.tourhub.order.repository.OrderRepository;
 import com.tourhub.payment.model.Payment;
 import com.tourhub.payment.model.PaymentLine;
 import com.tourhub.payment.model.PaymentStatus;
@@ -38,6 +48,9 @@ import com.tourhub.order.service.BookingAccessTokenService;
 import com.tourhub.payment.repository.PaymentLineRepository;
 import com.tourhub.payment.repository.PaymentRepository;
 import com.tourhub.tour.repository.TourScheduleRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
+import com.tourhub.common.pagination.CursorPage;
+import com.tourhub.common.pagination.KeysetCursor;
 import com.tourhub.common.result.Result;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +62,9 @@ class PaymentServiceTest {
     @Mock
     private PaymentLineRepository paymentLineRepository;
 
+    @Mock
+    private OrderRepository orderRepository;
+
     @Mock
     private PaymentMapper paymentMapper;
 
@@ -64,6 +80,9 @@ class PaymentServiceTest {
     @Mock
     private BookingAccessTokenService bookingAccessTokenService;
 
+    @Mock
+    private TourCacheInvalidator tourCacheInvalidator;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -175,6 +194,23 @@ class PaymentServiceTest {
         assertEquals("NOT_FOUND", result.error().code());
     }
 
+    @Test
+    void markPaymentSucceeded_confirmsNothing_whenReservationExpiredFirst() {
+        Payment payment = paymentForUser(null, null);
+        payment.setStatus(PaymentStatus.PENDING);
+        payment.getOrder().setId(7L);
+
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+        when(orderRepository.transitionStatus(7L, OrderStatus.FINALIZED, OrderStatus.PAID)).thenReturn(0);
+
+        Result<Void> result = paymentService.markPaymentSucceeded(1L);
+
+        assertTrue(result.isFail());
+        assertEquals(PaymentStatus.PENDING, payment.getStatus());
+        verify(tourScheduleRepository, never()).confirmReservedSeats(any(), anyInt(), anyBoolean());
+        verify(emailService, never()).sendOrderConfirmation(any(), any());
+    }
+
     private Payment paymentForUser(UUID userId, String reservationToken) {
         Order order = new Order();
 
@@ -207,5 +243,62 @@ class PaymentServiceTest {
         when(auth.getPrincipal()).thenReturn(details);
         return auth;
     }
-}
 
+    @Test
+    void searchPaymentLinesForAdminByCursor_returnsNextCursor_whenMoreRowsExist() {
+        Instant createdAt = Instant.parse("2026-03-10T12:00:00.123456Z");
+        PaymentLine newest = PaymentLine.builder().id(3L).createdAt(createdAt).build();
+        PaymentLine middle = PaymentLine.builder().id(2L).createdAt(createdAt).build();
+        PaymentLine oldest = PaymentLine.builder().id(1L).createdAt(createdAt.minusSeconds(60)).build();
+
+        doReturn(List.of(newest, middle, oldest))
+                .when(paymentLineRepository).findBy(any(Specification.class), any());
+        when(paymentLineMapper.toDto(any(PaymentLine.class))).thenReturn(new PaymentLineResponseDto());
+
+        Result<CursorPage<PaymentLineResponseDto>> result = paymentService.searchPaymentLinesForAdminByCursor(
+                null, null, null, null, null, 2);
+
+        assertTrue(result.isOk());
+        assertEquals(2, result.get().content().size());
+        assertTrue(result.get().hasNext());
+        assertEquals(
+                new KeysetCursor(createdAt, 2L),
+                KeysetCursor.decode(result.get().nextCursor()));
+    }
+
+    @Test
+    void searchPaymentLinesForAdminByCursor_returnsLastPage_withoutCursor() {
+        PaymentLine line = PaymentLine.builder().id(1L).createdAt(Instant.now()).build();
+
+        doReturn(List.of(line))
+                .when(paymentLineRepository).findBy(any(Specification.class), any());
+        when(paymentLineMapper.toDto(line)).thenReturn(new PaymentLineResponseDto());
+
+        Result<CursorPage<PaymentLineResponseDto>> result = paymentService.searchPaymentLinesForAdminByCursor(
+                null, null, null, null, new KeysetCursor(Instant.now(), 5L).encode(), 2);
+
+        assertTrue(result.isOk());
+        assertEquals(1, result.get().content().size());
+        assertFalse(result.get().hasNext());
+        assertNull(result.get().nextCursor());
+    }
+
+    @Test
+    void searchPaymentLinesForAdminByCursor_returnsFail_whenCursorIsMalformed() {
+        Result<CursorPage<PaymentLineResponseDto>> result = paymentService.searchPaymentLinesForAdminByCursor(
+                null, null, null, null, "not-a-cursor", 10);
+
+        assertTrue(result.isFail());
+        assertEquals("BAD_REQUEST", result.error().code());
+        verify(paymentLineRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void searchPaymentLinesForAdminByCursor_returnsFail_whenSizeIsNotPositive() {
+        Result<CursorPage<PaymentLineResponseDto>> result = paymentService.searchPaymentLinesForAdminByCursor(
+                null, null, null, null, null, 0);
+
+        assertTrue(result.isFail());
+        assertEquals("BAD_REQUEST", result.error().code());
+    }
+}
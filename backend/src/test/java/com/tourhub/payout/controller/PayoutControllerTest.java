@@ -28,6 +28,7 @@ import com.tourhub.payout.model.PayoutMethod;
 import com.tourhub.payout.model.PayoutStatus;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.payout.service.PayoutService;
 import com.tourhub.common.result.Result;
 
@@ -55,6 +56,9 @@ class PayoutControllerTest {
     @MockitoBean
     MeterRegistry meterRegistry;
 
+    @MockitoBean
+    private RateLimitStore rateLimitStore;
+
     @Test
     void createPayout_returnsOk() throws Exception {
         PayoutCreateRequestDto request = PayoutCreateRequestDto.builder()
@@ -0,0 +1,93 @@
+package com.tourhub.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.user.model.Role;
+import com.tourhub.user.model.User;
+import com.tourhub.user.model.UserStatus;
+import com.tourhub.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserAccessCache userAccessCache;
+    private CustomUserDetailsService service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final AccessTokenClaims claims = new AccessTokenClaims(
+            userId, "manager@test.com", "USER", Instant.now().plusSeconds(60));
+
+    @BeforeEach
+    void setUp() {
+        userAccessCache = new UserAccessCache(userRepository);
+        ReflectionTestUtils.setField(userAccessCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(userAccessCache, "ttl", Duration.ofMinutes(1));
+        userAccessCache.init();
+
+        service = new CustomUserDetailsService(userRepository, userAccessCache);
+        ReflectionTestUtils.setField(service, "claimsPrincipalEnabled", true);
+    }
+
+    @Test
+    void loadUserFromClaims_usesCachedRole_andLoadsUserOnce() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user(Role.MANAGER, UserStatus.ACTIVE)));
+
+        UserDetails first = service.loadUserFromClaims(claims).orElseThrow();
+        service.loadUserFromClaims(claims).orElseThrow();
+
+        CustomUserDetails details = (CustomUserDetails) first;
+        assertEquals(userId, details.getId());
+        assertEquals("manager@test.com", details.getUsername());
+        assertEquals("MANAGER", details.getRole());
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    void loadUserFromClaims_rejectsRemovedUser() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user(Role.USER, UserStatus.REMOVED)));
+
+        assertTrue(service.loadUserFromClaims(claims).isEmpty());
+    }
+
+    @Test
+    void loadUserFromClaims_seesStatusChange_afterInvalidation() {
+        when(userRepository.findById(userId))
+                .thenReturn(Optional.of(user(Role.USER, UserStatus.ACTIVE)))
+                .thenReturn(Optional.of(user(Role.USER, UserStatus.REMOVED)));
+
+        assertTrue(service.loadUserFromClaims(claims).isPresent());
+
+        userAccessCache.invalidate(userId);
+
+        assertTrue(service.loadUserFromClaims(claims).isEmpty());
+    }
+
+    private User user(Role role, UserStatus status) {
+        User user = new User();
+        user.setId(userId);
+        user.setEmail("manager@test.com");
+        user.setRole(role);
+        user.setStatus(status);
+        return user;
+    }
+}
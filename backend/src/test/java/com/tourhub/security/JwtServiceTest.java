@@ -0,0 +1,62 @@
+package com.tourhub.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.user.model.Role;
+import com.tourhub.user.model.User;
+
+class JwtServiceTest {
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "your-super-long-random-secret-at-least-32-bytes");
+        ReflectionTestUtils.setField(jwtService, "accessExpirationMs", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpirationMs", 120_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheMaximumSize", 100L);
+        jwtService.init();
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("user@test.com");
+        user.setRole(Role.USER);
+    }
+
+    @Test
+    void verifyAccessToken_returnsClaimsFromSingleParse() {
+        AccessTokenClaims claims = jwtService.verifyAccessToken(jwtService.generateAccessToken(user)).orElseThrow();
+
+        assertEquals(user.getId(), claims.userId());
+        assertEquals("user@test.com", claims.email());
+        assertEquals("USER", claims.role());
+    }
+
+    @Test
+    void verifyAccessToken_reusesVerifiedClaims() {
+        String token = jwtService.generateAccessToken(user);
+
+        assertSame(jwtService.verifyAccessToken(token).orElseThrow(),
+                jwtService.verifyAccessToken(token).orElseThrow());
+    }
+
+    @Test
+    void verifyAccessToken_rejectsRefreshAndTamperedTokens() {
+        String token = jwtService.generateAccessToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertTrue(jwtService.verifyAccessToken(jwtService.generateRefreshToken(user)).isEmpty());
+        assertTrue(jwtService.verifyAccessToken(tampered).isEmpty());
+        assertTrue(jwtService.verifyAccessToken("not-a-jwt").isEmpty());
+    }
+}
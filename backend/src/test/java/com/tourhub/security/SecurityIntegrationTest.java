@@ -1,5 +1,7 @@
 package com.tourhub.security;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -93,12 +95,7 @@ class SecurityIntegrationTest {
 
         @Test
         void getOrdersWithAuth_returns200() throws Exception {
-                UUID userId = UUID.randomUUID();
-
-                when(jwtService.validateAccessToken("good-token")).thenReturn(true);
-                when(jwtService.getUserId("good-token")).thenReturn(userId);
-                when(userDetailsService.loadUserById(userId))
-                                .thenReturn(TestUserFactory.userWithRole("USER"));
+                authenticate("good-token", "USER");
 
                 mockMvc.perform(get("/orders")
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer good-token"))
@@ -217,8 +214,8 @@ class SecurityIntegrationTest {
 
         @Test
         void invalidJwt_returns401() throws Exception {
-                when(jwtService.validateAccessToken("bad-token"))
-                                .thenReturn(false);
+                when(jwtService.verifyAccessToken("bad-token"))
+                                .thenReturn(Optional.empty());
 
                 mockMvc.perform(post("/orders")
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer bad-token"))
@@ -227,12 +224,7 @@ class SecurityIntegrationTest {
 
         @Test
         void userRoleBlockedFromManagerEndpoint_returns403() throws Exception {
-                UUID userId = UUID.randomUUID();
-                when(jwtService.validateAccessToken("good")).thenReturn(true);
-                when(jwtService.getUserId("good")).thenReturn(userId);
-
-                when(userDetailsService.loadUserById(userId))
-                                .thenReturn(TestUserFactory.userWithRole("USER"));
+                authenticate("good", "USER");
 
                 mockMvc.perform(post("/tours")
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer good"))
@@ -241,12 +233,7 @@ class SecurityIntegrationTest {
 
         @Test
         void userRoleBlockedFromCreateShopEndpoint_returns403() throws Exception {
-                UUID userId = UUID.randomUUID();
-
-                when(jwtService.validateAccessToken("good")).thenReturn(true);
-                when(jwtService.getUserId("good")).thenReturn(userId);
-                when(userDetailsService.loadUserById(userId))
-                                .thenReturn(TestUserFactory.userWithRole("USER"));
+                authenticate("good", "USER");
 
                 mockMvc.perform(post("/shops")
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer good")
@@ -261,12 +248,7 @@ class SecurityIntegrationTest {
 
         @Test
         void userRoleBlockedFromJoinShopRequestEndpoint_returns403() throws Exception {
-                UUID userId = UUID.randomUUID();
-
-                when(jwtService.validateAccessToken("good")).thenReturn(true);
-                when(jwtService.getUserId("good")).thenReturn(userId);
-                when(userDetailsService.loadUserById(userId))
-                                .thenReturn(TestUserFactory.userWithRole("USER"));
+                authenticate("good", "USER");
 
                 mockMvc.perform(post("/api/shop-users/shop/{shopId}/request", 1L)
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer good"))
@@ -275,15 +257,7 @@ class SecurityIntegrationTest {
 
         @Test
         void headerAuth_withManagerRole_allowsPostTour() throws Exception {
-                UUID userId = UUID.randomUUID();
-
-                // JWT is valid
-                when(jwtService.validateAccessToken("good-token")).thenReturn(true);
-                when(jwtService.getUserId("good-token")).thenReturn(userId);
-
-                // User is MANAGER
-                when(userDetailsService.loadUserById(userId))
-                                .thenReturn(TestUserFactory.userWithRole("MANAGER"));
+                authenticate("good-token", "MANAGER");
 
                 mockMvc.perform(post("/tours")
                                 .header(HttpHeaders.AUTHORIZATION, "Bearer good-token")
@@ -300,4 +274,12 @@ class SecurityIntegrationTest {
                                 .andExpect(status().is4xxClientError());
         }
 
+        private void authenticate(String token, String role) {
+                CustomUserDetails user = TestUserFactory.userWithRole(role);
+                AccessTokenClaims claims = new AccessTokenClaims(
+                                user.getId(), user.getUsername(), role, Instant.now().plusSeconds(900));
+
+                when(jwtService.verifyAccessToken(token)).thenReturn(Optional.of(claims));
+                when(userDetailsService.loadUserFromClaims(claims)).thenReturn(Optional.of(user));
+        }
 }
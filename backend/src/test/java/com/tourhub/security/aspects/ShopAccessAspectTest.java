@@ -0,0 +1,131 @@
+package com.tourhub.security.aspects;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.aspectj.lang.JoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tourhub.order.repository.OrderItemRepository;
+import com.tourhub.security.CustomUserDetails;
+import com.tourhub.security.ShopAccessCache;
+import com.tourhub.security.annotations.AccessLevel;
+import com.tourhub.security.annotations.ShopAccess;
+import com.tourhub.security.annotations.ShopIdSource;
+import com.tourhub.security.testutil.TestUserFactory;
+import com.tourhub.shop.model.ShopUser;
+import com.tourhub.shop.model.ShopUserRole;
+import com.tourhub.shop.model.ShopUserStatus;
+import com.tourhub.shop.repository.ShopUserRepository;
+import com.tourhub.tour.repository.TourRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ShopAccessAspectTest {
+
+    @Mock
+    private ShopUserRepository shopUserRepository;
+
+    @Mock
+    private TourRepository tourRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    private ShopAccessCache shopAccessCache;
+    private ShopAccessAspect aspect;
+    private CustomUserDetails guide;
+
+    @BeforeEach
+    void setUp() {
+        shopAccessCache = new ShopAccessCache(shopUserRepository);
+        ReflectionTestUtils.setField(shopAccessCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(shopAccessCache, "membershipTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(shopAccessCache, "ownerTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.invokeMethod(shopAccessCache, "init");
+
+        aspect = new ShopAccessAspect(shopAccessCache, tourRepository, orderItemRepository);
+
+        guide = TestUserFactory.userWithRole("USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(guide, null, guide.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void checkShopAccess_resolvesOwnerAndMembershipOnce_forRepeatedCalls() {
+        when(tourRepository.findShopIdByTourId(5L)).thenReturn(1L);
+        when(shopUserRepository.findByShopIdAndUserId(1L, guide.getId()))
+                .thenReturn(Optional.of(membership(ShopUserRole.GUIDE, ShopUserStatus.ACTIVE)));
+
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> aspect.checkShopAccess(joinPoint(5L), access(AccessLevel.GUIDE, ShopIdSource.TOUR_ID)));
+        }
+
+        verify(tourRepository, times(1)).findShopIdByTourId(5L);
+        verify(shopUserRepository, times(1)).findByShopIdAndUserId(1L, guide.getId());
+    }
+
+    @Test
+    void checkShopAccess_seesRoleChange_afterInvalidation() {
+        when(shopUserRepository.findByShopIdAndUserId(1L, guide.getId()))
+                .thenReturn(Optional.of(membership(ShopUserRole.MANAGER, ShopUserStatus.ACTIVE)))
+                .thenReturn(Optional.of(membership(ShopUserRole.GUIDE, ShopUserStatus.ACTIVE)));
+
+        ShopAccess managerOnly = access(AccessLevel.MANAGER, ShopIdSource.SHOP_ID);
+
+        assertDoesNotThrow(() -> aspect.checkShopAccess(joinPoint(1L), managerOnly));
+
+        shopAccessCache.invalidateMembership(1L, guide.getId());
+
+        assertThrows(AccessDeniedException.class, () -> aspect.checkShopAccess(joinPoint(1L), managerOnly));
+    }
+
+    @Test
+    void checkShopAccess_deniesNonMembers() {
+        when(shopUserRepository.findByShopIdAndUserId(1L, guide.getId())).thenReturn(Optional.empty());
+
+        assertThrows(AccessDeniedException.class,
+                () -> aspect.checkShopAccess(joinPoint(1L), access(AccessLevel.VIEW, ShopIdSource.SHOP_ID)));
+    }
+
+    private JoinPoint joinPoint(Object... args) {
+        JoinPoint joinPoint = mock(JoinPoint.class);
+        when(joinPoint.getArgs()).thenReturn(args);
+        return joinPoint;
+    }
+
+    private ShopAccess access(AccessLevel level, ShopIdSource source) {
+        ShopAccess access = mock(ShopAccess.class);
+        lenient().when(access.value()).thenReturn(level);
+        when(access.source()).thenReturn(source);
+        return access;
+    }
+
+    private ShopUser membership(ShopUserRole role, ShopUserStatus status) {
+        ShopUser shopUser = new ShopUser();
+        shopUser.setRole(role);
+        shopUser.setStatus(status);
+        return shopUser;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tourhub.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new InMemoryRateLimitStore(meterRegistry);
+        ReflectionTestUtils.setField(store, "maximumSize", 10L);
+        ReflectionTestUtils.setField(store, "idleTimeout", Duration.ofMinutes(5));
+        ReflectionTestUtils.invokeMethod(store, "init");
+    }
+
+    @Test
+    void tryConsume_rejectsOnceCapacityIsSpent() {
+        assertTrue(store.tryConsume("IP_1", 2, PERIOD));
+        assertTrue(store.tryConsume("IP_1", 2, PERIOD));
+        assertFalse(store.tryConsume("IP_1", 2, PERIOD));
+
+        assertTrue(store.tryConsume("IP_2", 2, PERIOD));
+    }
+
+    @Test
+    void tryConsume_staysWithinMaximumSize_whenKeysKeepChanging() {
+        for (int i = 0; i < 1_000; i++) {
+            store.tryConsume("IP_" + i, 50, PERIOD);
+        }
+
+        assertTrue(store.size() <= 10);
+        assertTrue(meterRegistry.get("rate_limit_bucket_evictions_total").functionCounter().count() > 0);
+        assertEquals(store.size(), meterRegistry.get("rate_limit_buckets").gauge().value());
+    }
+}
@@ -0,0 +1,156 @@
+package com.tourhub.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tourhub.testutil.PostgresRepositoryTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// The upsert commits on its own (REQUIRES_NEW), so buckets are cleaned up by hand.
+@PostgresRepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostgresRateLimitStoreTest {
+
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    @Autowired
+    private RateLimitBucketRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> keys = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostgresRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = store(repository, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllById(keys);
+    }
+
+    @Test
+    void tryConsume_rejectsOnceCapacityIsSpent_acrossCalls() {
+        String key = key();
+
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertFalse(store.tryConsume(key, 2, PERIOD));
+
+        assertTrue(store.tryConsume(key(), 2, PERIOD));
+    }
+
+    @Test
+    void tryConsume_leavesBucketUntouched_whenRejected() {
+        String key = key();
+        store.tryConsume(key, 1, PERIOD);
+
+        double tokens = tokens(key);
+        assertFalse(store.tryConsume(key, 1, PERIOD));
+
+        assertEquals(tokens, tokens(key));
+    }
+
+    @Test
+    void tryConsume_refillsInProportionToElapsedTime() {
+        String key = key();
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertFalse(store.tryConsume(key, 2, PERIOD));
+
+        // Half a period refills half of the capacity: one token.
+        backdate(key, PERIOD.dividedBy(2));
+
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertFalse(store.tryConsume(key, 2, PERIOD));
+    }
+
+    @Test
+    void tryConsume_refillsNoFurtherThanCapacity() {
+        String key = key();
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+
+        backdate(key, PERIOD.multipliedBy(10));
+
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertTrue(store.tryConsume(key, 2, PERIOD));
+        assertFalse(store.tryConsume(key, 2, PERIOD));
+    }
+
+    @Test
+    void tryConsume_allowsRequest_whenStoreFailsAndFailOpen() {
+        PostgresRateLimitStore failing = store(unavailableRepository(), true);
+
+        assertTrue(failing.tryConsume(key(), 2, PERIOD));
+        assertEquals(1.0, meterRegistry.get("rate_limit_store_failures_total").counter().count());
+    }
+
+    @Test
+    void tryConsume_rejectsRequest_whenStoreFailsAndFailClosed() {
+        PostgresRateLimitStore failing = store(unavailableRepository(), false);
+
+        assertFalse(failing.tryConsume(key(), 2, PERIOD));
+        assertEquals(1.0, meterRegistry.get("rate_limit_store_failures_total").counter().count());
+    }
+
+    private PostgresRateLimitStore store(RateLimitBucketRepository bucketRepository, boolean failOpen) {
+        meterRegistry = new SimpleMeterRegistry();
+        PostgresRateLimitStore created = new PostgresRateLimitStore(bucketRepository, meterRegistry);
+        ReflectionTestUtils.setField(created, "idleTimeout", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(created, "failOpen", failOpen);
+        ReflectionTestUtils.invokeMethod(created, "init");
+        return created;
+    }
+
+    private static RateLimitBucketRepository unavailableRepository() {
+        RateLimitBucketRepository unavailable = mock(RateLimitBucketRepository.class);
+        when(unavailable.tryConsume(anyString(), anyDouble(), anyDouble()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        return unavailable;
+    }
+
+    private String key() {
+        String key = "TEST_" + UUID.randomUUID();
+        keys.add(key);
+        return key;
+    }
+
+    private double tokens(String key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?", Double.class, key);
+    }
+
+    private void backdate(String key, Duration elapsed) {
+        jdbcTemplate.update(
+                "UPDATE rate_limit_buckets SET refilled_at = refilled_at - make_interval(secs => ?) "
+                        + "WHERE bucket_key = ?",
+                (double) elapsed.toSeconds(), key);
+    }
+}
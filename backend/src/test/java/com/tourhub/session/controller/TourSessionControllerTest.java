@@ -7,6 +7,7 @@ import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -41,6 +42,9 @@ class TourSessionControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         // Security deps (present but inactive)
         @MockitoBean
         private JwtService jwtService;
@@ -0,0 +1,143 @@
+package com.tourhub.session.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.tourhub.session.model.SessionStatus;
+import com.tourhub.session.model.TourSession;
+import com.tourhub.session.repository.TourSessionRepository;
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SessionExpirationServiceTest {
+
+    @Autowired
+    private SessionExpirationService expirationService;
+
+    @Autowired
+    private TourSessionRepository sessionRepository;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void expireBatch_expiresOnlyPastSessionsWithoutBookedParticipants() {
+        Tour tour = createTour();
+        LocalDate today = LocalDate.now();
+
+        Long pastEmpty = createSession(tour, today.minusDays(1), LocalTime.NOON, 0, SessionStatus.CONFIRMED);
+        Long untimedToday = createSession(tour, today, null, 0, SessionStatus.PLANNED);
+        Long futureEmpty = createSession(tour, today.plusDays(1), LocalTime.NOON, 0, SessionStatus.CONFIRMED);
+        Long pastBooked = createSession(tour, today.minusDays(1), LocalTime.NOON, 2, SessionStatus.CONFIRMED);
+        Long pastCompleted = createSession(tour, today.minusDays(1), LocalTime.NOON, 0, SessionStatus.COMPLETED);
+
+        List<Long> expired = expirationService.expireBatch(today, LocalTime.of(10, 0), 0L, 1000);
+
+        assertTrue(expired.containsAll(List.of(pastEmpty, untimedToday)));
+        assertEquals(SessionStatus.EXPIRED, statusOf(pastEmpty));
+        assertEquals(SessionStatus.EXPIRED, statusOf(untimedToday));
+        assertEquals(SessionStatus.CONFIRMED, statusOf(futureEmpty));
+        assertEquals(SessionStatus.CONFIRMED, statusOf(pastBooked));
+        assertEquals(SessionStatus.COMPLETED, statusOf(pastCompleted));
+    }
+
+    @Test
+    void expireBatch_recordsTheChangeInTheAuditTable() {
+        Tour tour = createTour();
+        Long session = createSession(tour, LocalDate.now().minusDays(1), LocalTime.NOON, 0, SessionStatus.PLANNED);
+
+        expirationService.expireBatch(LocalDate.now(), LocalTime.NOON, session - 1, 1);
+
+        assertEquals("EXPIRED", jdbcTemplate.queryForObject(
+                "SELECT status FROM tour_session_aud WHERE id = ? ORDER BY rev DESC LIMIT 1",
+                String.class, session));
+    }
+
+    @Test
+    void expireBatch_continuesAfterGivenId() {
+        Tour tour = createTour();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        Long first = createSession(tour, yesterday, LocalTime.NOON, 0, SessionStatus.PLANNED);
+        Long second = createSession(tour, yesterday, LocalTime.NOON, 0, SessionStatus.PLANNED);
+
+        List<Long> expired = expirationService.expireBatch(LocalDate.now(), LocalTime.NOON, first, 1000);
+
+        assertTrue(expired.contains(second));
+        assertFalse(expired.contains(first));
+        assertEquals(SessionStatus.PLANNED, statusOf(first));
+    }
+
+    private SessionStatus statusOf(Long sessionId) {
+        return sessionRepository.findById(sessionId).orElseThrow().getStatus();
+    }
+
+    private Tour createTour() {
+        Shop shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        return tourRepository.save(Tour.builder()
+                .title("Tour")
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(10)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .shop(shop)
+                .build());
+    }
+
+    private Long createSession(
+            Tour tour,
+            LocalDate date,
+            LocalTime time,
+            int bookedParticipants,
+            SessionStatus status) {
+
+        TourSchedule schedule = scheduleRepository.save(TourSchedule.builder()
+                .tour(tour)
+                .date(date)
+                .time(time)
+                .maxParticipants(10)
+                .bookedParticipants(bookedParticipants)
+                .status("ACTIVE")
+                .build());
+
+        return sessionRepository.save(TourSession.builder()
+                .schedule(schedule)
+                .status(status)
+                .build())
+                .getId();
+    }
+}
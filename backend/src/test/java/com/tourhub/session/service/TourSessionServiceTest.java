@@ -1,12 +1,14 @@
 package com.tourhub.session.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +38,8 @@ import com.tourhub.user.model.User;
 import com.tourhub.session.repository.TourSessionRepository;
 import com.tourhub.user.repository.UserRepository;
 import com.tourhub.security.CurrentUserService;
+import com.tourhub.common.pagination.CursorPage;
+import com.tourhub.common.pagination.KeysetCursor;
 import com.tourhub.common.result.Result;
 
 @ExtendWith(MockitoExtension.class)
@@ -387,5 +391,49 @@ class TourSessionServiceTest {
         verify(repo, never()).save(any());
     }
 
-}
+    @Test
+    void searchSessionsForAdminByCursor_returnsIdOnlyCursor_whenMoreRowsExist() {
+        TourSession newest = TourSession.builder().id(9L).build();
+        TourSession middle = TourSession.builder().id(7L).build();
+        TourSession oldest = TourSession.builder().id(4L).build();
+
+        doReturn(List.of(newest, middle, oldest))
+                .when(repo).findBy(any(Specification.class), any());
+        when(mapper.toDto(any(TourSession.class))).thenReturn(new TourSessionDetailsDto());
+
+        Result<CursorPage<TourSessionDetailsDto>> result = service.searchSessionsForAdminByCursor(
+                null, null, null, null, null, 2);
+
+        assertTrue(result.isOk());
+        assertEquals(2, result.get().content().size());
+        assertTrue(result.get().hasNext());
+        assertEquals(new KeysetCursor(null, 7L), KeysetCursor.decode(result.get().nextCursor()));
+    }
+
+    @Test
+    void searchSessionsForAdminByCursor_returnsLastPage_withoutCursor() {
+        TourSession session = TourSession.builder().id(3L).build();
+
+        doReturn(List.of(session))
+                .when(repo).findBy(any(Specification.class), any());
+        when(mapper.toDto(session)).thenReturn(new TourSessionDetailsDto());
 
+        Result<CursorPage<TourSessionDetailsDto>> result = service.searchSessionsForAdminByCursor(
+                null, null, null, null, new KeysetCursor(null, 4L).encode(), 2);
+
+        assertTrue(result.isOk());
+        assertEquals(1, result.get().content().size());
+        assertFalse(result.get().hasNext());
+        assertNull(result.get().nextCursor());
+    }
+
+    @Test
+    void searchSessionsForAdminByCursor_returnsFail_whenCursorIsMalformed() {
+        Result<CursorPage<TourSessionDetailsDto>> result = service.searchSessionsForAdminByCursor(
+                null, null, null, null, "not-a-cursor", 10);
+
+        assertTrue(result.isFail());
+        assertEquals("BAD_REQUEST", result.error().code());
+        verify(repo, never()).findBy(any(Specification.class), any());
+    }
+}
@@ -29,6 +29,7 @@ import com.tourhub.security.CurrentUserService;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtAuthenticationFilter;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.shop.service.ShopService;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
@@ -61,6 +62,9 @@ class ShopControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         // ----------------------------
         // Helpers
         // ----------------------------
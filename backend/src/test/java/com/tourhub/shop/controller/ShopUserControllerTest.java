@@ -24,6 +24,7 @@ import com.tourhub.security.CurrentUserService;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtAuthenticationFilter;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.shop.service.ShopUserService;
 import com.tourhub.common.result.Result;
 
@@ -51,6 +52,9 @@ class ShopUserControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         // ----------------------------
         // Tests
         // ----------------------------
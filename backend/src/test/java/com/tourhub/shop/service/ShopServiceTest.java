@@ -27,6 +27,8 @@ import com.tourhub.shop.repository.ShopRepository;
 import com.tourhub.shop.repository.ShopUserRepository;
 import com.tourhub.user.repository.UserRepository;
 import com.tourhub.security.CurrentUserService;
+import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.service.TourCacheInvalidator;
 import com.tourhub.common.result.Result;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +49,12 @@ class ShopServiceTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private TourRepository tourRepository;
+
+    @Mock
+    private TourCacheInvalidator tourCacheInvalidator;
+
     @InjectMocks
     private ShopService shopService;
 
@@ -163,6 +171,28 @@ class ShopServiceTest {
 
         verify(shopMapper).updateShopFromDto(dto, shop);
         verify(shopRepository).save(shop);
+        verifyNoInteractions(tourRepository, tourCacheInvalidator);
+    }
+
+    @Test
+    void updateShop_refreshesTours_whenNameChanges() {
+        ShopCreateRequestDto dto = new ShopCreateRequestDto();
+        dto.setName("New name");
+        Shop shop = new Shop();
+        shop.setName("Old name");
+
+        when(shopRepository.findById(1L)).thenReturn(Optional.of(shop));
+        doAnswer(invocation -> {
+            shop.setName(dto.getName());
+            return null;
+        }).when(shopMapper).updateShopFromDto(dto, shop);
+        when(shopRepository.save(shop)).thenReturn(shop);
+        when(shopMapper.toDto(shop)).thenReturn(new ShopDto());
+
+        assertTrue(shopService.updateShop(1L, dto).isOk());
+
+        verify(tourRepository).touchByShopId(eq(1L), any());
+        verify(tourCacheInvalidator).evictAllTours();
     }
 
     @Test
@@ -25,6 +25,7 @@ import com.tourhub.shop.repository.ShopRepository;
 import com.tourhub.shop.repository.ShopUserRepository;
 import com.tourhub.user.repository.UserRepository;
 import com.tourhub.security.CurrentUserService;
+import com.tourhub.security.ShopAccessCache;
 import com.tourhub.common.result.Result;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +46,9 @@ class ShopUserServiceTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private ShopAccessCache shopAccessCache;
+
     @InjectMocks
     private ShopUserService service;
 
@@ -207,6 +211,7 @@ class ShopUserServiceTest {
 
         assertTrue(result.isOk());
         assertEquals(ShopUserStatus.ACTIVE, shopUser.getStatus());
+        verify(shopAccessCache).invalidateMembership(1L, userId);
     }
 
     @Test
@@ -0,0 +1,29 @@
+package com.tourhub.testutil;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.tourhub.config.CacheConfig;
+import com.tourhub.config.JpaAuditingConfig;
+import com.tourhub.tour.service.TourCacheInvalidator;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType;
+
+/**
+ * JPA slice against an embedded Postgres with the Flyway migrations applied,
+ * for native SQL and locking that H2 cannot run. The database runs
+ * from the bundled zonky binaries, so no Docker daemon is needed.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = "zonky.test.database.provider=zonky")
+@Import({ JpaAuditingConfig.class, CacheConfig.class, TourCacheInvalidator.class })
+@AutoConfigureEmbeddedDatabase(type = DatabaseType.POSTGRES)
+public @interface PostgresRepositoryTest {
+}
@@ -1,10 +1,14 @@
 package com.tourhub.tour.controller;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ import com.tourhub.tour.dto.TourUpdateDto;
 import com.tourhub.tour.model.TourCategory;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.tour.service.TourService;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
@@ -53,6 +58,9 @@ class TourControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         // ----------------------------
         // Helpers
         // ----------------------------
@@ -203,6 +211,30 @@ class TourControllerTest {
                                 .andExpect(status().isNotFound());
         }
 
+        @Test
+        void getTourById_setsEtag_whenVersionKnown() throws Exception {
+                when(tourService.getTourVersion(1L))
+                                .thenReturn(Instant.parse("2026-01-01T10:00:00.123456Z"));
+                when(tourService.getTourById(1L))
+                                .thenReturn(Result.ok(tourResponse()));
+
+                mockMvc.perform(get("/tours/{id}", 1L))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"tour-1-1767261600.123456\""));
+        }
+
+        @Test
+        void getTourById_returnsNotModified_whenEtagMatches() throws Exception {
+                when(tourService.getTourVersion(1L))
+                                .thenReturn(Instant.parse("2026-01-01T10:00:00.123456Z"));
+
+                mockMvc.perform(get("/tours/{id}", 1L)
+                                .header("If-None-Match", "\"tour-1-1767261600.123456\""))
+                                .andExpect(status().isNotModified());
+
+                verify(tourService, never()).getTourById(anyLong());
+        }
+
         @Test
         void getToursByShop_returnsOk() throws Exception {
                 when(tourService.getToursByShopId(1L))
@@ -18,8 +18,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.tourhub.tour.model.TourImage;
+import com.tourhub.tour.dto.TourImageResponseDto;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.tour.service.TourImageService;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
@@ -49,6 +51,9 @@ class TourImageControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         // ----------------------------
         // Helpers
         // ----------------------------
@@ -68,7 +73,8 @@ class TourImageControllerTest {
         @Test
         void getTourImages_returnsOk() throws Exception {
                 when(tourImageService.getImagesByTour(1L))
-                                .thenReturn(Result.ok(List.of(tourImage(1L))));
+                                .thenReturn(Result.ok(List.of(
+                                                new TourImageResponseDto(1L, "https://example.com/image.jpg", 0, null))));
 
                 mockMvc.perform(get("/api/tours/{tourId}/images", 1L))
                                 .andExpect(status().isOk());
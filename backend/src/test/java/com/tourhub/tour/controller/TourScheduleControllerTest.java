@@ -25,6 +25,7 @@ import com.tourhub.tour.dto.TourScheduleResponseDto;
 import com.tourhub.tour.dto.TourScheduleUpdateDto;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.tour.service.TourScheduleService;
 import com.tourhub.common.result.ApiError;
 import com.tourhub.common.result.Result;
@@ -52,6 +53,9 @@ class TourScheduleControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         @MockitoBean
         private CustomUserDetailsService customUserDetailsService;
 
@@ -0,0 +1,165 @@
+package com.tourhub.tour.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.testutil.PostgresRepositoryTest;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourSchedule;
+
+// Commits its data: the lock test needs two real connections.
+@PostgresRepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TourAvailabilityRepositoryTest {
+
+    @Autowired
+    private TourAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Shop shop;
+
+    @BeforeEach
+    void setUp() {
+        shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduleRepository.deleteAll(scheduleRepository.findAll().stream()
+                .filter(schedule -> schedule.getTour().getShop().getId().equals(shop.getId()))
+                .toList());
+        tourRepository.deleteAll(tourRepository.findAll().stream()
+                .filter(tour -> tour.getShop().getId().equals(shop.getId()))
+                .toList());
+        shopRepository.delete(shop);
+    }
+
+    @Test
+    void refresh_keepsEarliestBookableDatePerTour() {
+        LocalDate today = LocalDate.now();
+
+        Tour open = tour("Open");
+        schedule(open, today.minusDays(1), 0);
+        schedule(open, today.plusDays(2), 10);
+        schedule(open, today.plusDays(5), 3);
+
+        Tour soldOut = tour("Sold out");
+        schedule(soldOut, today.plusDays(1), 10);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> availabilityRepository.refresh());
+
+        assertEquals(today.plusDays(5), availabilityRepository.findById(open.getId()).orElseThrow().getNextAvailableDate());
+        assertTrue(availabilityRepository.findById(soldOut.getId()).isEmpty());
+    }
+
+    @Test
+    void seatUpdates_onOneTour_doNotWaitForEachOther() throws Exception {
+        Tour tour = tour("Busy");
+        TourSchedule first = schedule(tour, LocalDate.now().plusDays(1), 0);
+        TourSchedule second = schedule(tour, LocalDate.now().plusDays(2), 0);
+
+        try (Connection a = dataSource.getConnection(); Connection b = dataSource.getConnection()) {
+            a.setAutoCommit(false);
+            b.setAutoCommit(false);
+
+            try (Statement timeout = b.createStatement()) {
+                timeout.execute("SET LOCAL lock_timeout = '2s'");
+            }
+
+            reserveSeat(a, first.getId());
+            reserveSeat(b, second.getId());
+
+            a.rollback();
+            b.rollback();
+        }
+    }
+
+    @Test
+    void tryLockRefresh_fails_whileAnotherInstanceHoldsTheLock() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            try (Statement lock = other.createStatement()) {
+                lock.execute("SELECT pg_advisory_xact_lock(hashtext('tour_availability_refresh'))");
+            }
+
+            Boolean acquired = transaction.execute(status -> availabilityRepository.tryLockRefresh());
+            assertFalse(acquired);
+
+            other.rollback();
+        }
+
+        Boolean acquiredAfterRelease = transaction.execute(status -> availabilityRepository.tryLockRefresh());
+        assertTrue(acquiredAfterRelease);
+    }
+
+    private void reserveSeat(Connection connection, Long scheduleId) throws Exception {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE tour_schedules SET reserved_participants = reserved_participants + 1 WHERE id = ?")) {
+            update.setLong(1, scheduleId);
+            assertEquals(1, update.executeUpdate());
+        }
+    }
+
+    private Tour tour(String title) {
+        return tourRepository.save(Tour.builder()
+                .title(title)
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(10)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .shop(shop)
+                .build());
+    }
+
+    private TourSchedule schedule(Tour tour, LocalDate date, int booked) {
+        return scheduleRepository.save(TourSchedule.builder()
+                .tour(tour)
+                .date(date)
+                .maxParticipants(10)
+                .bookedParticipants(booked)
+                .status("ACTIVE")
+                .build());
+    }
+}
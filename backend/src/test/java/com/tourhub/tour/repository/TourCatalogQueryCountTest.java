@@ -0,0 +1,154 @@
+package com.tourhub.tour.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tourhub.common.result.Result;
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.tour.dto.TourResponseDto;
+import com.tourhub.tour.mapper.TourMapper;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourCategory;
+import com.tourhub.tour.model.TourImage;
+import com.tourhub.tour.service.TourService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TourCatalogQueryCountTest {
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private TourMapper tourMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getToursByShopId_usesSameQueryCount_regardlessOfTourCount() {
+        Long smallShopId = createShopWithTours(2);
+        Long largeShopId = createShopWithTours(12);
+
+        long small = countStatements(() -> tourService.getToursByShopId(smallShopId));
+        long large = countStatements(() -> tourService.getToursByShopId(largeShopId));
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    void catalogPage_usesSameQueryCount_regardlessOfPageSize() {
+        createShopWithTours(12);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        long small = countStatements(() -> transaction.execute(status -> tourRepository
+                .findAll(TourSpecifications.isActive(), PageRequest.of(0, 2))
+                .map(tourMapper::toDto)
+                .getContent()));
+
+        long large = countStatements(() -> transaction.execute(status -> tourRepository
+                .findAll(TourSpecifications.isActive(), PageRequest.of(0, 10))
+                .map(tourMapper::toDto)
+                .getContent()));
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    void getToursByShopId_mapsShopAndCollections() {
+        Long shopId = createShopWithTours(3);
+
+        Result<List<TourResponseDto>> result = tourService.getToursByShopId(shopId);
+
+        assertTrue(result.isOk());
+        assertEquals(3, result.get().size());
+
+        TourResponseDto dto = result.get().get(0);
+        assertEquals(shopId, dto.getShopId());
+        assertEquals(2, dto.getImages().size());
+        assertEquals(Set.of(TourCategory.HIKING, TourCategory.NATURE), dto.getCategories());
+        assertEquals(Set.of("EN", "ET"), dto.getLanguage());
+    }
+
+    private long countStatements(Supplier<?> call) {
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createShopWithTours(int tourCount) {
+        Shop shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        for (int i = 0; i < tourCount; i++) {
+            Tour tour = Tour.builder()
+                    .title("Tour " + i)
+                    .description("Description")
+                    .price(BigDecimal.TEN)
+                    .participants(10)
+                    .status("ACTIVE")
+                    .type("PUBLIC")
+                    .categories(Set.of(TourCategory.HIKING, TourCategory.NATURE))
+                    .language(Set.of("EN", "ET"))
+                    .shop(shop)
+                    .build();
+
+            tour.getImages().add(image(tour, "https://img/" + i + "/a.jpg", 0));
+            tour.getImages().add(image(tour, "https://img/" + i + "/b.jpg", 1));
+
+            tourRepository.save(tour);
+        }
+
+        return shop.getId();
+    }
+
+    private TourImage image(Tour tour, String url, int position) {
+        TourImage image = new TourImage();
+        image.setTour(tour);
+        image.setImageUrl(url);
+        image.setPosition(position);
+        return image;
+    }
+}
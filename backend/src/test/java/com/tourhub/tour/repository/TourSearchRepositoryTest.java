@@ -0,0 +1,104 @@
+package com.tourhub.tour.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.TestPropertySource;
+
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.testutil.PostgresRepositoryTest;
+import com.tourhub.tour.model.Tour;
+
+@PostgresRepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.tourhub.tour.repository.TourSearchRepositoryTest$RecordingInspector")
+class TourSearchRepositoryTest {
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @BeforeEach
+    void setUp() {
+        Shop shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        tourRepository.save(tour(shop, "Old town walking tour"));
+        tourRepository.save(tour(shop, "Sunset kayak trip"));
+        tourRepository.flush();
+
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void keywordSearch_matchesPrefixes_withTheSameSqlForEveryKeyword() {
+        List<String> walking = search("walk:*");
+        String walkingSql = lastSelect();
+
+        List<String> kayak = search("kay:*");
+        String kayakSql = lastSelect();
+
+        assertEquals(List.of("Old town walking tour"), walking);
+        assertEquals(List.of("Sunset kayak trip"), kayak);
+        assertEquals(walkingSql, kayakSql);
+        assertFalse(walkingSql.contains("walk"));
+    }
+
+    private List<String> search(String searchQuery) {
+        Specification<Tour> spec = Specification.allOf(
+                TourSpecifications.isActive(),
+                TourSpecifications.matchesKeyword(searchQuery),
+                TourSpecifications.orderedByRelevance(searchQuery));
+
+        return tourRepository.findAll(spec, PageRequest.of(0, 10))
+                .map(Tour::getTitle)
+                .getContent();
+    }
+
+    private String lastSelect() {
+        return RecordingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains("to_tsquery") && !sql.startsWith("select count"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    private Tour tour(Shop shop, String title) {
+        return Tour.builder()
+                .title(title)
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(10)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .shop(shop)
+                .build();
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
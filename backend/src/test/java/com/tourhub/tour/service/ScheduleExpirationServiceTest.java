@@ -0,0 +1,120 @@
+package com.tourhub.tour.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.query.AuditEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tourhub.common.audit.AuditRevisions;
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.testutil.PostgresRepositoryTest;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.repository.TourRepository;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Commits its data: the claim query is native SQL with SKIP LOCKED.
+@PostgresRepositoryTest
+@Import({ ScheduleExpirationService.class, AuditRevisions.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleExpirationServiceTest {
+
+    @Autowired
+    private ScheduleExpirationService expirationService;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Shop shop;
+    private Tour tour;
+
+    @BeforeEach
+    void setUp() {
+        shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        tour = tourRepository.save(Tour.builder()
+                .title("Tour")
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(10)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .shop(shop)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduleRepository.deleteAll(scheduleRepository.findAll().stream()
+                .filter(schedule -> schedule.getTour().getId().equals(tour.getId()))
+                .toList());
+        tourRepository.delete(tour);
+        shopRepository.delete(shop);
+    }
+
+    @Test
+    void expireBatch_expiresPastSchedules_andRecordsTheChangeInTheAuditTrail() {
+        TourSchedule past = schedule(LocalDate.now().minusDays(1));
+        TourSchedule upcoming = schedule(LocalDate.now().plusDays(1));
+
+        expirationService.expireBatch(LocalDate.now(), LocalTime.now(), 1000);
+
+        assertEquals("EXPIRED", scheduleRepository.findById(past.getId()).orElseThrow().getStatus());
+        assertEquals("ACTIVE", scheduleRepository.findById(upcoming.getId()).orElseThrow().getStatus());
+        assertEquals("EXPIRED", latestAuditedStatus(past));
+        assertEquals("ACTIVE", latestAuditedStatus(upcoming));
+    }
+
+    private String latestAuditedStatus(TourSchedule schedule) {
+        return new TransactionTemplate(transactionManager).execute(status -> ((TourSchedule) AuditReaderFactory
+                .get(entityManager).createQuery()
+                .forRevisionsOfEntity(TourSchedule.class, true, false)
+                .add(AuditEntity.id().eq(schedule.getId()))
+                .addOrder(AuditEntity.revisionNumber().desc())
+                .setMaxResults(1)
+                .getSingleResult())
+                .getStatus());
+    }
+
+    private TourSchedule schedule(LocalDate date) {
+        return scheduleRepository.save(TourSchedule.builder()
+                .tour(tour)
+                .date(date)
+                .maxParticipants(10)
+                .status("ACTIVE")
+                .build());
+    }
+}
@@ -0,0 +1,56 @@
+package com.tourhub.tour.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tourhub.tour.model.TourSchedule;
+import com.tourhub.tour.repository.TourScheduleRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleLockServiceTest {
+
+    @Mock
+    private TourScheduleRepository scheduleRepository;
+
+    @InjectMocks
+    private ScheduleLockService service;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lockAll_locksDistinctIdsInAscendingOrder() {
+        TourSchedule first = TourSchedule.builder().id(3L).build();
+        TourSchedule second = TourSchedule.builder().id(7L).build();
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        when(scheduleRepository.findAllByIdForUpdate(ids.capture())).thenReturn(List.of(first, second));
+
+        Map<Long, TourSchedule> locked = service.lockAll(Arrays.asList(7L, null, 3L, 7L));
+
+        assertEquals(List.of(3L, 7L), List.copyOf(ids.getValue()));
+        assertEquals(List.of(3L, 7L), List.copyOf(locked.keySet()));
+    }
+
+    @Test
+    void lockAll_skipsQuery_whenNoIds() {
+        Map<Long, TourSchedule> locked = service.lockAll(List.of());
+
+        assertTrue(locked.isEmpty());
+        verify(scheduleRepository, never()).findAllByIdForUpdate(any());
+    }
+}
@@ -1,5 +1,6 @@
 package com.tourhub.tour.service;
 
+import com.tourhub.tour.dto.TourImageResponseDto;
 import com.tourhub.tour.model.Tour;
 import com.tourhub.tour.model.TourImage;
 import com.tourhub.tour.repository.TourImageRepository;
@@ -33,20 +34,25 @@ class TourImageServiceTest {
     @Test
     void getImagesByTour_returnsOkList() {
         TourImage img1 = new TourImage();
+        img1.setId(1L);
+        img1.setImageUrl("a.jpg");
         img1.setPosition(0);
 
         TourImage img2 = new TourImage();
+        img2.setId(2L);
+        img2.setImageUrl("b.jpg");
         img2.setPosition(1);
 
         when(tourImageRepository.findByTourIdOrderByPositionAsc(1L))
                 .thenReturn(List.of(img1, img2));
 
-        Result<List<TourImage>> result = service.getImagesByTour(1L);
+        Result<List<TourImageResponseDto>> result = service.getImagesByTour(1L);
 
         assertTrue(result.isOk());
         assertEquals(2, result.get().size());
-        assertSame(img1, result.get().get(0));
-        assertSame(img2, result.get().get(1));
+        assertEquals(1L, result.get().get(0).getId());
+        assertEquals("a.jpg", result.get().get(0).getImageUrl());
+        assertEquals(1, result.get().get(1).getPosition());
     }
 
     @Test
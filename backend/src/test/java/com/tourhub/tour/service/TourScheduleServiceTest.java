@@ -1,6 +1,7 @@
 package com.tourhub.tour.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.Test;
@@ -8,10 +9,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.tourhub.tour.dto.TourScheduleCreateDto;
 import com.tourhub.tour.dto.TourScheduleResponseDto;
 import com.tourhub.tour.dto.TourScheduleUpdateDto;
+import com.tourhub.tour.event.ScheduleCapacityChangedEvent;
+import com.tourhub.tour.event.TourCatalogChangedEvent;
 import com.tourhub.tour.mapper.TourScheduleMapper;
 import com.tourhub.session.mapper.TourSessionMapper;
 import com.tourhub.tour.model.Tour;
@@ -47,6 +51,9 @@ class TourScheduleServiceTest {
     @Mock
     private TourSessionRepository sessionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TourScheduleService service;
 
@@ -155,6 +162,7 @@ class TourScheduleServiceTest {
         schedule.setMaxParticipants(5);
         schedule.setBookedParticipants(5);
         schedule.setDate(LocalDate.now().plusDays(1));
+        schedule.setTour(Tour.builder().id(1L).build());
 
         TourScheduleUpdateDto dto = new TourScheduleUpdateDto();
         dto.setBookedParticipants(5);
@@ -177,6 +185,7 @@ class TourScheduleServiceTest {
         schedule.setMaxParticipants(10);
         schedule.setBookedParticipants(1);
         schedule.setDate(LocalDate.now().minusDays(1));
+        schedule.setTour(Tour.builder().id(1L).build());
 
         TourScheduleUpdateDto dto = new TourScheduleUpdateDto();
 
@@ -189,6 +198,31 @@ class TourScheduleServiceTest {
 
         assertTrue(result.isOk());
         assertEquals("EXPIRED", schedule.getStatus());
+        verify(eventPublisher, never()).publishEvent(any(ScheduleCapacityChangedEvent.class));
+    }
+
+    @Test
+    void updateSchedule_publishesCapacityChange_whenMaxParticipantsChanges() {
+        TourSchedule schedule = new TourSchedule();
+        schedule.setId(1L);
+        schedule.setMaxParticipants(10);
+        schedule.setBookedParticipants(10);
+        schedule.setDate(LocalDate.now().plusDays(1));
+        schedule.setTour(Tour.builder().id(1L).build());
+
+        TourScheduleUpdateDto dto = new TourScheduleUpdateDto();
+        dto.setMaxParticipants(12);
+
+        when(scheduleRepository.findById(1L))
+                .thenReturn(Optional.of(schedule));
+        when(scheduleMapper.toDto(schedule))
+                .thenReturn(new TourScheduleResponseDto());
+
+        Result<TourScheduleResponseDto> result = service.updateSchedule(1L, dto);
+
+        assertTrue(result.isOk());
+        assertEquals("ACTIVE", schedule.getStatus());
+        verify(eventPublisher).publishEvent(new ScheduleCapacityChangedEvent(1L));
     }
 
     @Test
@@ -205,18 +239,20 @@ class TourScheduleServiceTest {
 
     @Test
     void deleteSchedule_returnsOk_whenExists() {
-        when(scheduleRepository.existsById(1L)).thenReturn(true);
+        when(tourRepository.findTourIdByScheduleId(1L)).thenReturn(5L);
 
         Result<Boolean> result = service.deleteSchedule(1L);
 
         assertTrue(result.isOk());
         assertTrue(result.get());
         verify(scheduleRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new TourCatalogChangedEvent(5L));
+        verify(eventPublisher).publishEvent(new ScheduleCapacityChangedEvent(1L));
     }
 
     @Test
     void deleteSchedule_returnsFail_whenNotFound() {
-        when(scheduleRepository.existsById(1L)).thenReturn(false);
+        when(tourRepository.findTourIdByScheduleId(1L)).thenReturn(null);
 
         Result<Boolean> result = service.deleteSchedule(1L);
 
@@ -13,12 +13,17 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import com.tourhub.tour.dto.TourCreateDto;
 import com.tourhub.tour.dto.TourResponseDto;
 import com.tourhub.tour.dto.TourUpdateDto;
@@ -42,6 +47,12 @@ class TourServiceTest {
     @Mock
     private ShopRepository shopRepository;
 
+    @Mock
+    private BookableTourPool bookableTourPool;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TourService tourService;
 
@@ -228,8 +239,7 @@ class TourServiceTest {
 
         Page<Tour> page = new PageImpl<>(List.of(tour));
 
-        when(tourRepository.searchWithCategory(
-                any(), any(), any(), any(), any(Pageable.class)))
+        when(tourRepository.findAll(ArgumentMatchers.<Specification<Tour>>any(), any(Pageable.class)))
                 .thenReturn(page);
 
         when(tourMapper.toDto(tour)).thenReturn(dto);
@@ -239,7 +249,7 @@ class TourServiceTest {
                 List.of("PRIVATE"),
                 List.of("EN"),
                 null,
-                null, // hasDate = false
+                null,
                 0,
                 10,
                 new String[] { "title", "asc" });
@@ -266,46 +276,67 @@ class TourServiceTest {
     }
 
     @Test
-    void getAllByQuery_withCategoryAndDate_callsCorrectRepository() {
-        Tour tour = new Tour();
-        TourResponseDto dto = new TourResponseDto();
+    void getAllByQuery_usesRequestedSort() {
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
 
-        Page<Tour> page = new PageImpl<>(List.of(tour));
+        when(tourRepository.findAll(ArgumentMatchers.<Specification<Tour>>any(), pageable.capture()))
+                .thenReturn(new PageImpl<>(List.of()));
 
-        LocalDate date = LocalDate.of(2026, 2, 28);
+        Result<Page<TourResponseDto>> result = tourService.getAllByQuery(
+                List.of("ADVENTURE"),
+                null,
+                null,
+                "old town",
+                LocalDate.of(2026, 2, 28),
+                1,
+                12,
+                new String[] { "price", "desc" });
 
-        when(tourRepository.searchWithCategoryAndDate(
-                any(),
-                any(),
-                any(),
-                any(),
-                eq(date),
-                any(Pageable.class)))
-                .thenReturn(page);
+        assertTrue(result.isOk());
+        assertEquals(1, pageable.getValue().getPageNumber());
+        assertEquals(Sort.by(Sort.Direction.DESC, "price"), pageable.getValue().getSort());
+    }
 
-        when(tourMapper.toDto(tour)).thenReturn(dto);
+    @Test
+    void getAllByQuery_withKeywordAndRelevanceSort_leavesOrderingToSpecification() {
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+
+        when(tourRepository.findAll(ArgumentMatchers.<Specification<Tour>>any(), pageable.capture()))
+                .thenReturn(new PageImpl<>(List.of()));
 
         Result<Page<TourResponseDto>> result = tourService.getAllByQuery(
-                List.of("ADVENTURE"),
-                List.of("PRIVATE"),
-                List.of("EN"),
                 null,
-                date,
+                null,
+                null,
+                "  Old-Town ",
+                null,
                 0,
                 10,
-                new String[] { "title", "asc" });
+                new String[] { "relevance", "desc" });
 
         assertTrue(result.isOk());
-        assertEquals(1, result.get().getContent().size());
-        assertSame(dto, result.get().getContent().get(0));
+        assertTrue(pageable.getValue().getSort().isUnsorted());
+    }
+
+    @Test
+    void getAllByQuery_withRelevanceSortButNoKeyword_fallsBackToTitle() {
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+
+        when(tourRepository.findAll(ArgumentMatchers.<Specification<Tour>>any(), pageable.capture()))
+                .thenReturn(new PageImpl<>(List.of()));
 
-        verify(tourRepository).searchWithCategoryAndDate(
-                any(),
-                any(),
-                any(),
-                any(),
-                eq(date),
-                any(Pageable.class));
+        Result<Page<TourResponseDto>> result = tourService.getAllByQuery(
+                null,
+                null,
+                null,
+                " - ",
+                null,
+                0,
+                10,
+                new String[] { "relevance", "asc" });
+
+        assertTrue(result.isOk());
+        assertEquals(Sort.by(Sort.Direction.ASC, "title"), pageable.getValue().getSort());
     }
 
     @Test
@@ -348,27 +379,56 @@ class TourServiceTest {
 
     @Test
     void getRandomTours_returnsOkList() {
-        Tour tour = new Tour();
+        Tour first = Tour.builder().id(7L).build();
+        Tour second = Tour.builder().id(3L).build();
+        TourResponseDto firstDto = new TourResponseDto();
+        TourResponseDto secondDto = new TourResponseDto();
+
+        when(bookableTourPool.sample(5)).thenReturn(List.of(7L, 3L));
+        when(tourRepository.findAllById(List.of(7L, 3L)))
+                .thenReturn(List.of(second, first));
+        when(tourMapper.toDto(first)).thenReturn(firstDto);
+        when(tourMapper.toDto(second)).thenReturn(secondDto);
+
+        Result<List<TourResponseDto>> result = tourService.getRandomTours(5);
+
+        assertTrue(result.isOk());
+        assertEquals(List.of(firstDto, secondDto), result.get());
+    }
+
+    @Test
+    void getRandomTours_skipsDatabase_whenPoolIsEmpty() {
+        when(bookableTourPool.sample(5)).thenReturn(List.of());
+
+        Result<List<TourResponseDto>> result = tourService.getRandomTours(5);
+
+        assertTrue(result.isOk());
+        assertTrue(result.get().isEmpty());
+        verifyNoInteractions(tourRepository);
+    }
+
+    @Test
+    void getRandomToursByCategory_samplesCategoryPool() {
+        Tour tour = Tour.builder().id(4L).build();
         TourResponseDto dto = new TourResponseDto();
 
-        when(tourRepository.findRandomActiveTours(5))
-                .thenReturn(List.of(tour));
+        when(bookableTourPool.sample(TourCategory.HIKING, 2)).thenReturn(List.of(4L));
+        when(tourRepository.findAllById(List.of(4L))).thenReturn(List.of(tour));
         when(tourMapper.toDto(tour)).thenReturn(dto);
 
-        Result<List<TourResponseDto>> result = tourService.getRandomTours(5);
+        Result<List<TourResponseDto>> result = tourService.getRandomToursByCategory("hiking", 2);
 
         assertTrue(result.isOk());
-        assertEquals(1, result.get().size());
         assertSame(dto, result.get().get(0));
     }
 
     @Test
     void getHighlightedTour_returnsOk_whenExists() {
-        Tour tour = new Tour();
+        Tour tour = Tour.builder().id(1L).build();
         TourResponseDto dto = new TourResponseDto();
 
-        when(tourRepository.findRandomActiveTour())
-                .thenReturn(Optional.of(tour));
+        when(bookableTourPool.sample(1)).thenReturn(List.of(1L));
+        when(tourRepository.findAllById(List.of(1L))).thenReturn(List.of(tour));
         when(tourMapper.toDto(tour)).thenReturn(dto);
 
         Result<TourResponseDto> result = tourService.getHighlightedTour();
@@ -379,8 +439,7 @@ class TourServiceTest {
 
     @Test
     void getHighlightedTour_returnsFail_whenNoneExist() {
-        when(tourRepository.findRandomActiveTour())
-                .thenReturn(Optional.empty());
+        when(bookableTourPool.sample(1)).thenReturn(List.of());
 
         Result<TourResponseDto> result = tourService.getHighlightedTour();
 
@@ -390,4 +449,3 @@ class TourServiceTest {
     }
 
 }
-
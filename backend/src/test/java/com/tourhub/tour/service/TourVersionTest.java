@@ -0,0 +1,130 @@
+package com.tourhub.tour.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tourhub.common.web.ConditionalGet;
+import com.tourhub.shop.model.Shop;
+import com.tourhub.shop.model.ShopStatus;
+import com.tourhub.shop.repository.ShopRepository;
+import com.tourhub.testutil.PostgresRepositoryTest;
+import com.tourhub.tour.dto.TourUpdateDto;
+import com.tourhub.tour.mapper.TourMapperImpl;
+import com.tourhub.tour.model.Tour;
+import com.tourhub.tour.model.TourCategory;
+import com.tourhub.tour.repository.TourRepository;
+
+// The ETag of GET /tours/{id} is built from tours.updated_at; commits its
+// data so each update runs in its own transaction, like a real request.
+@PostgresRepositoryTest
+@Import({ TourService.class, TourMapperImpl.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TourVersionTest {
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private BookableTourPool bookableTourPool;
+
+    private Shop shop;
+    private Tour tour;
+
+    @BeforeEach
+    void setUp() {
+        shop = new Shop();
+        shop.setName("Shop " + UUID.randomUUID());
+        shop.setStatus(ShopStatus.ACTIVE);
+        shop = shopRepository.save(shop);
+
+        tour = tourRepository.save(Tour.builder()
+                .title("Tour")
+                .description("Description")
+                .price(BigDecimal.TEN)
+                .participants(10)
+                .status("ACTIVE")
+                .type("PUBLIC")
+                .categories(Set.of(TourCategory.WALKING))
+                .language(Set.of("English"))
+                .shop(shop)
+                .build());
+
+        // Start from a clearly older version than anything the update writes.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> tourRepository.touch(
+                tour.getId(), Instant.now().minus(1, ChronoUnit.HOURS)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tourRepository.deleteById(tour.getId());
+        shopRepository.delete(shop);
+    }
+
+    @Test
+    void updateTour_changesEtag_whenOnlyCategoriesChange() {
+        String before = etag();
+
+        TourUpdateDto dto = unchanged();
+        dto.setCategories(Set.of(TourCategory.CYCLING));
+
+        assertTrue(tourService.updateTour(tour.getId(), dto).isOk());
+
+        assertNotEquals(before, etag());
+    }
+
+    @Test
+    void updateTour_changesEtag_whenOnlyLanguagesChange() {
+        String before = etag();
+
+        TourUpdateDto dto = unchanged();
+        dto.setLanguage(Set.of("English", "Thai"));
+
+        assertTrue(tourService.updateTour(tour.getId(), dto).isOk());
+
+        assertNotEquals(before, etag());
+    }
+
+    private String etag() {
+        return ConditionalGet.etag("tour", tour.getId(), tourService.getTourVersion(tour.getId()));
+    }
+
+    // Same values as the saved tour, so only what a test sets differs.
+    private TourUpdateDto unchanged() {
+        TourUpdateDto dto = new TourUpdateDto();
+        dto.setTitle(tour.getTitle());
+        dto.setDescription(tour.getDescription());
+        dto.setPrice(tour.getPrice());
+        dto.setParticipants(tour.getParticipants());
+        dto.setStatus(tour.getStatus());
+        dto.setType(tour.getType());
+        dto.setCategories(tour.getCategories());
+        dto.setLanguage(tour.getLanguage());
+        return dto;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.user.dto.PublicManagerProfileDto;
 import com.tourhub.security.CustomUserDetailsService;
 import com.tourhub.security.JwtService;
@@ -41,6 +42,9 @@ class PublicUserControllerTest {
     @MockitoBean
     MeterRegistry meterRegistry;
 
+    @MockitoBean
+    private RateLimitStore rateLimitStore;
+
     @Test
     void getPublicManagerProfile_returnsOk() throws Exception {
         UUID userId = UUID.randomUUID();
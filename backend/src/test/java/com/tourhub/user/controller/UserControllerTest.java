@@ -1,6 +1,7 @@
 package com.tourhub.user.controller;
 
 import java.util.UUID;
+import com.tourhub.security.ratelimit.RateLimitStore;
 import com.tourhub.user.dto.UserResponseDto;
 import com.tourhub.user.dto.UserUpdateDto;
 import com.tourhub.security.CurrentUserService;
@@ -51,6 +52,9 @@ class UserControllerTest {
         @MockitoBean
         MeterRegistry meterRegistry;
 
+        @MockitoBean
+        private RateLimitStore rateLimitStore;
+
         @MockitoBean
         private CustomUserDetailsService customUserDetailsService;
 
@@ -21,6 +21,7 @@ import com.tourhub.user.model.User;
 import com.tourhub.user.model.UserStatus;
 import com.tourhub.user.repository.UserRepository;
 import com.tourhub.security.CurrentUserService;
+import com.tourhub.security.UserAccessCache;
 import com.tourhub.common.result.Result;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +39,24 @@ class UserServiceTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private UserAccessCache userAccessCache;
+
+    @Test
+    void removeUser_invalidatesCachedAccess() {
+        UUID userId = UUID.randomUUID();
+        User user = new User();
+        user.setStatus(UserStatus.ACTIVE);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        Result<Void> result = userService.removeUser(userId);
+
+        assertTrue(result.isOk());
+        assertEquals(UserStatus.REMOVED, user.getStatus());
+        verify(userAccessCache).invalidate(userId);
+    }
+
     @Test
     void getUserProfile_returnsOk_whenUserExists() {
         UUID userId = UUID.randomUUID();